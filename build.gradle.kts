@@ -28,6 +28,7 @@ dependencies {
 	api(libs.jspecify)
 
 
+	compileOnly("io.micrometer:micrometer-core")
 	compileOnly("org.springframework:spring-webmvc")
 
 	// region Test
@@ -35,6 +36,7 @@ dependencies {
 	testImplementation("org.springframework.modulith:spring-modulith-starter-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-web")
+	testImplementation("io.micrometer:micrometer-core")
 	testImplementation(libs.compileTesting)
 	testImplementation(libs.googleTruth)
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
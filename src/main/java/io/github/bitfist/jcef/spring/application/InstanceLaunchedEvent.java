@@ -0,0 +1,18 @@
+package io.github.bitfist.jcef.spring.application;
+
+import java.util.List;
+
+/**
+ * 🚪 Published when the application is launched again while it is already running in
+ * {@link JcefApplication#runSingleInstance(Class, String, String[]) single-instance mode}.
+ * <p>
+ * The new launch exits right away and forwards its arguments, e.g. a file opened via a file association.
+ *
+ * @param args Arguments of the new launch.
+ */
+public record InstanceLaunchedEvent(List<String> args) {
+
+	public InstanceLaunchedEvent {
+		args = List.copyOf(args);
+	}
+}
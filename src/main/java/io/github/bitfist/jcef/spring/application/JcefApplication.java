@@ -33,19 +33,66 @@ public abstract class JcefApplication {
 	 * @param args       Application arguments.
 	 * @param customizer Callback to tweak the SpringApplicationBuilder.
 	 */
-	@SneakyThrows
 	public static <T> void run(Class<T> clazz, String applicationName, String[] args, Consumer<SpringApplicationBuilder> customizer) {
-		// 🖥 Set native look-and-feel
-		UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
-		var appDataPath = getAppDataPath().toAbsolutePath();
+		run(clazz, applicationName, args, customizer, false);
+	}
+
+	/**
+	 * 🔒 Run the application unless it is already running, in which case the arguments are passed to the running
+	 * instance as {@link InstanceLaunchedEvent} and this launch returns without starting Spring or CEF.
+	 */
+	public static <T> void runSingleInstance(Class<T> clazz, String applicationName, String[] args) {
+		runSingleInstance(clazz, applicationName, args, builder -> {
+		});
+	}
+
+	/**
+	 * 🔒 Run the application as single instance with custom SpringApplicationBuilder adjustments.
+	 *
+	 * @param clazz      Spring Boot annotated application class.
+	 * @param args       Application arguments, forwarded to the running instance if there is one.
+	 * @param customizer Callback to tweak the SpringApplicationBuilder.
+	 * @see #runSingleInstance(Class, String, String[])
+	 */
+	public static <T> void runSingleInstance(Class<T> clazz, String applicationName, String[] args, Consumer<SpringApplicationBuilder> customizer) {
+		run(clazz, applicationName, args, customizer, true);
+	}
+
+	@SneakyThrows
+	private static <T> void run(Class<T> clazz, String applicationName, String[] args, Consumer<SpringApplicationBuilder> customizer, boolean singleInstance) {
+		var installationPath = getAppDataPath().toAbsolutePath().resolve(applicationName);
+		SingleInstanceGuard singleInstanceGuard = null;
+		if (singleInstance) {
+			singleInstanceGuard = SingleInstanceGuard.tryAcquire(installationPath);
+			if (singleInstanceGuard == null) {
+				SingleInstanceGuard.forward(installationPath, args);
+				return;
+			}
+		}
 		var builder = new SpringApplicationBuilder(clazz);
 		builder.headless(false);
 		builder.properties(Map.of(
 				"jcef.application-name", applicationName,
-				"jcef.installation-path", appDataPath.resolve(applicationName).toString()
+				"jcef.installation-path", installationPath.toString()
 		));
+		// 🖼 Show the splash screen while the context starts, it is read from the environment the moment it is prepared
+		builder.listeners(new StartupSplashScreen());
+		if (singleInstanceGuard != null) {
+			builder.listeners(singleInstanceGuard);
+		}
 		customizer.accept(builder);
-		builder.run(args);
+		// 🖥 Set native look-and-feel, after customizing so the phase is recorded by a customized ApplicationStartup
+		try (var ignored = StartupPhase.start(builder.application().getApplicationStartup(), "jcef.look-and-feel")) {
+			UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
+		}
+		try {
+			builder.run(args);
+		} catch (RuntimeException exception) {
+			if (singleInstanceGuard != null) {
+				singleInstanceGuard.close();
+			}
+			throw exception;
+		}
 	}
 
 	/**
@@ -0,0 +1,215 @@
+package io.github.bitfist.jcef.spring.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🔒 Makes sure only one instance of the application runs per installation path.
+ * <p>
+ * The first instance holds a lock file and listens on a Unix domain socket next to it. Further launches find the
+ * lock taken, send their arguments over the socket and exit before a Spring context is created. Arguments received
+ * before the application is ready are kept and published as {@link InstanceLaunchedEvent} once it is. The lock is
+ * released when the application's context closes, events of child contexts are ignored.
+ */
+@Slf4j
+final class SingleInstanceGuard implements ApplicationListener<ApplicationEvent>, AutoCloseable {
+
+	static final String LOCK_FILE = "instance.lock";
+	static final String SOCKET_FILE = "instance.sock";
+
+	// The running instance binds its socket right after taking the lock, so it only has to be awaited during its start
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+	private static final Duration CONNECT_RETRY_DELAY = Duration.ofMillis(50);
+
+	private final FileChannel lockChannel;
+	private final FileLock lock;
+	private final Path socketPath;
+	private final ServerSocketChannel server;
+
+	// Guarded by this
+	private final List<List<String>> pending = new ArrayList<>();
+	private @Nullable ApplicationContext context;
+
+	private SingleInstanceGuard(FileChannel lockChannel, FileLock lock, Path socketPath, ServerSocketChannel server) {
+		this.lockChannel = lockChannel;
+		this.lock = lock;
+		this.socketPath = socketPath;
+		this.server = server;
+	}
+
+	/**
+	 * 🔒 Takes the instance lock of the directory and starts listening for further launches.
+	 *
+	 * @return The guard, or {@code null} if another instance holds the lock.
+	 */
+	static @Nullable SingleInstanceGuard tryAcquire(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		var lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		FileLock lock;
+		try {
+			lock = lockChannel.tryLock();
+		} catch (OverlappingFileLockException exception) {
+			// Held by this JVM, e.g. by a context that is still running
+			lock = null;
+		}
+		if (lock == null) {
+			lockChannel.close();
+			return null;
+		}
+		var socketPath = directory.resolve(SOCKET_FILE);
+		try {
+			// Left behind by an instance that did not exit cleanly, the lock proves nobody listens on it
+			Files.deleteIfExists(socketPath);
+			var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+			server.bind(UnixDomainSocketAddress.of(socketPath));
+			var guard = new SingleInstanceGuard(lockChannel, lock, socketPath, server);
+			var thread = new Thread(guard::accept, "jcef-single-instance");
+			thread.setDaemon(true);
+			thread.start();
+			return guard;
+		} catch (IOException | RuntimeException exception) {
+			lock.release();
+			lockChannel.close();
+			throw exception;
+		}
+	}
+
+	/**
+	 * 📨 Sends the arguments to the instance holding the lock of the directory.
+	 */
+	static void forward(Path directory, String[] args) throws IOException {
+		var address = UnixDomainSocketAddress.of(directory.resolve(SOCKET_FILE));
+		var deadline = System.nanoTime() + CONNECT_TIMEOUT.toNanos();
+		while (true) {
+			try (var channel = SocketChannel.open(address);
+				 var output = new DataOutputStream(Channels.newOutputStream(channel))) {
+				output.writeInt(args.length);
+				for (String arg : args) {
+					output.writeUTF(arg);
+				}
+				return;
+			} catch (IOException exception) {
+				if (System.nanoTime() > deadline) {
+					throw new IOException("The running instance does not accept connections on " + address.getPath(), exception);
+				}
+				sleep();
+			}
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (event instanceof ApplicationReadyEvent readyEvent) {
+			List<List<String>> launches;
+			synchronized (this) {
+				if (context != null) {
+					// Ready events of child contexts reach the listeners of their parent as well
+					return;
+				}
+				context = readyEvent.getApplicationContext();
+				launches = List.copyOf(pending);
+				pending.clear();
+			}
+			launches.forEach(this::publish);
+		} else if (event instanceof ContextClosedEvent closedEvent && isApplicationContext(closedEvent.getApplicationContext())) {
+			// Released with the context, so a context restarted within this JVM takes the lock again
+			close();
+		}
+	}
+
+	/**
+	 * Whether the context is the one of the application, closing a child context must keep the lock. A failed start
+	 * never becomes ready, its caller closes the guard instead.
+	 */
+	private synchronized boolean isApplicationContext(ApplicationContext closed) {
+		return closed == context;
+	}
+
+	private void accept() {
+		while (server.isOpen()) {
+			try (var channel = server.accept();
+				 var input = new DataInputStream(Channels.newInputStream(channel))) {
+				var count = input.readInt();
+				var args = new ArrayList<String>(count);
+				for (int i = 0; i < count; i++) {
+					args.add(input.readUTF());
+				}
+				received(args);
+			} catch (IOException exception) {
+				if (server.isOpen()) {
+					log.warn("Failed to receive the arguments of a new launch", exception);
+				}
+			}
+		}
+	}
+
+	void received(List<String> args) {
+		synchronized (this) {
+			if (context == null) {
+				pending.add(args);
+				return;
+			}
+		}
+		publish(args);
+	}
+
+	private void publish(List<String> args) {
+		log.info("Application launched again with arguments {}", args);
+		ApplicationEventPublisher current;
+		synchronized (this) {
+			current = context;
+		}
+		if (current != null) {
+			current.publishEvent(new InstanceLaunchedEvent(args));
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		if (!server.isOpen()) {
+			return;
+		}
+		try {
+			server.close();
+			Files.deleteIfExists(socketPath);
+			lock.release();
+			lockChannel.close();
+		} catch (IOException exception) {
+			log.warn("Failed to release the instance lock", exception);
+		}
+	}
+
+	private static void sleep() throws IOException {
+		try {
+			Thread.sleep(CONNECT_RETRY_DELAY);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while connecting to the running instance");
+		}
+	}
+}
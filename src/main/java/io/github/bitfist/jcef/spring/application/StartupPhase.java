@@ -0,0 +1,85 @@
+package io.github.bitfist.jcef.spring.application;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * 📊 A startup phase of the starter, recorded both as {@link StartupStep} of the {@link ApplicationStartup} and as JFR
+ * event.
+ * <p>
+ * With a {@code BufferingApplicationStartup} the phases are part of the exported startup timeline, in a flight
+ * recording they show up as {@code io.github.bitfist.jcef.StartupPhase} events.
+ * <p>
+ * A {@code BufferingApplicationStartup} parents every new step to the latest active one, regardless of the thread.
+ * Phases running off the main thread, or outlasting the context refresh, are therefore {@link #detached(String)
+ * detached} and only recorded as JFR event, so they do not adopt the steps of the context refresh.
+ */
+public final class StartupPhase implements AutoCloseable {
+
+	private final @Nullable StartupStep step;
+	private final PhaseEvent event = new PhaseEvent();
+
+	private StartupPhase(@Nullable StartupStep step, String name) {
+		this.step = step;
+		event.phase = name;
+		event.begin();
+	}
+
+	/**
+	 * ▶️ Starts a phase, which ends when closed.
+	 *
+	 * @param applicationStartup Startup to record the step in.
+	 * @param name               Name of the phase, e.g. {@code jcef.ui.install}.
+	 */
+	public static StartupPhase start(ApplicationStartup applicationStartup, String name) {
+		return new StartupPhase(applicationStartup.start(name), name);
+	}
+
+	/**
+	 * ▶️ Starts a phase that is only recorded as JFR event, for work off the main thread or outlasting the refresh.
+	 *
+	 * @param name Name of the phase, e.g. {@code jcef.ui.install}.
+	 */
+	public static StartupPhase detached(String name) {
+		return new StartupPhase(null, name);
+	}
+
+	/**
+	 * 🏷 Adds information about the phase.
+	 */
+	public StartupPhase tag(String key, Object value) {
+		var text = String.valueOf(value);
+		if (step != null) {
+			step.tag(key, text);
+		}
+		event.details = event.details == null ? key + "=" + text : event.details + ", " + key + "=" + text;
+		return this;
+	}
+
+	@Override
+	public void close() {
+		if (step != null) {
+			step.end();
+		}
+		event.commit();
+	}
+
+	@Name("io.github.bitfist.jcef.StartupPhase")
+	@Label("JCEF Startup Phase")
+	@Category("JCEF")
+	@StackTrace(false)
+	static final class PhaseEvent extends Event {
+
+		@Label("Phase")
+		String phase;
+
+		@Label("Details")
+		String details;
+	}
+}
@@ -0,0 +1,110 @@
+package io.github.bitfist.jcef.spring.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationFailedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.JLabel;
+import javax.swing.JWindow;
+import javax.swing.SwingUtilities;
+import java.awt.AWTEvent;
+import java.awt.GraphicsEnvironment;
+import java.awt.SplashScreen;
+import java.awt.Toolkit;
+import java.awt.event.AWTEventListener;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * 🖼 Shows the splash screen image as soon as the environment is prepared, before the application context is created.
+ * <p>
+ * The splash screen closes once another window opens: the installer progress UI, which shows the same image, or the
+ * browser frame. A native splash screen configured via {@code SplashScreen-Image} or {@code -splash:} is shown even
+ * earlier by the JVM and closed by AWT the same way, so none is shown in addition to it.
+ */
+@Slf4j
+final class StartupSplashScreen implements ApplicationListener<ApplicationEvent> {
+
+	static final String SPLASH_SCREEN_PROPERTY = "jcef.splash-screen-classpath-resource";
+
+	// Shown once per JVM, contexts restarted by DevTools reuse the open browser frame
+	private static final AtomicBoolean SHOWN = new AtomicBoolean();
+
+	private final AWTEventListener windowListener = event -> {
+		if (event.getID() == WindowEvent.WINDOW_OPENED && event.getSource() != getWindow()) {
+			close();
+		}
+	};
+
+	// Only accessed on the event dispatch thread
+	private @Nullable JWindow window;
+	private boolean closed;
+
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		if (event instanceof ApplicationEnvironmentPreparedEvent preparedEvent) {
+			var resource = preparedEvent.getEnvironment().getProperty(SPLASH_SCREEN_PROPERTY);
+			show(resource, preparedEvent.getSpringApplication().getClassLoader());
+		} else if (event instanceof ApplicationFailedEvent || event instanceof ContextClosedEvent) {
+			SwingUtilities.invokeLater(this::close);
+		}
+	}
+
+	void show(@Nullable String resource, ClassLoader classLoader) {
+		if (isBlank(resource) || GraphicsEnvironment.isHeadless() || SplashScreen.getSplashScreen() != null) {
+			return;
+		}
+		var url = classLoader.getResource(resource);
+		if (url == null) {
+			log.warn("Splash screen {} not found on the classpath", resource);
+			return;
+		}
+		BufferedImage image;
+		try {
+			image = ImageIO.read(url);
+		} catch (IOException exception) {
+			log.warn("Failed to read splash screen {}", resource, exception);
+			return;
+		}
+		if (image != null && SHOWN.compareAndSet(false, true)) {
+			SwingUtilities.invokeLater(() -> open(image));
+		}
+	}
+
+	private void open(BufferedImage image) {
+		if (closed) {
+			return;
+		}
+		var splash = new JWindow();
+		splash.getContentPane().add(new JLabel(new ImageIcon(image)));
+		splash.pack();
+		// Centered like the installer progress UI, so it takes over without moving the image
+		splash.setLocationRelativeTo(null);
+		window = splash;
+		Toolkit.getDefaultToolkit().addAWTEventListener(windowListener, AWTEvent.WINDOW_EVENT_MASK);
+		splash.setVisible(true);
+	}
+
+	void close() {
+		closed = true;
+		Toolkit.getDefaultToolkit().removeAWTEventListener(windowListener);
+		if (window != null) {
+			window.dispose();
+			window = null;
+		}
+	}
+
+	@Nullable JWindow getWindow() {
+		return window;
+	}
+}
@@ -0,0 +1,83 @@
+package io.github.bitfist.jcef.spring.browser;
+
+import lombok.Data;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * ⚙️ Configuration properties for the browser window.
+ * <p>
+ * Binds to properties prefixed with 'jcef.browser'.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcef.browser")
+public class BrowserProperties {
+
+	/**
+	 * Shows the window as soon as the browser exists instead of waiting for the application to be ready. Queries of
+	 * the UI are held back until the application is ready.
+	 */
+	private boolean earlyShow;
+
+	private Pool pool = new Pool();
+	private Windowless windowless = new Windowless();
+	private Cache cache = new Cache();
+	private Bundle bundle = new Bundle();
+
+	@Data
+	public static class Pool {
+
+		public static final int DEFAULT_SIZE = 0;
+
+		/**
+		 * Number of idle browsers kept loaded for secondary windows. Each one is a renderer process of its own, so by
+		 * default none are kept and browsers are created on demand.
+		 */
+		private int size = DEFAULT_SIZE;
+	}
+
+	@Data
+	public static class Windowless {
+
+		public static final int DEFAULT_FRAME_RATE = 30;
+
+		/**
+		 * Renders browsers off-screen into a Swing component instead of a native window.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Maximum frame rate of off-screen browsers, between 1 and 60. Lower rates save CPU on screens without
+		 * animations.
+		 */
+		private int frameRate = DEFAULT_FRAME_RATE;
+	}
+
+	@Data
+	public static class Bundle {
+
+		/**
+		 * Local JCEF bundle installed instead of downloading it, e.g. {@code file:/opt/app/jcef.tar.gz} or
+		 * {@code classpath:jcef/jcef-natives-linux-amd64.jar}. Either the {@code tar.gz} of the natives or the
+		 * {@code jcef-natives-<platform>} artifact containing it.
+		 */
+		private @Nullable Resource archive;
+
+		/**
+		 * Expected SHA-256 checksum of the archive in hex, the installation fails if it does not match.
+		 */
+		private @Nullable String sha256;
+	}
+
+	@Data
+	public static class Cache {
+
+		/**
+		 * Size budget of the disk caches below the CEF data path, unbounded if not set. Exceeding caches are pruned to
+		 * 80% of it on startup, deleting the least recently modified files first.
+		 */
+		private @Nullable DataSize maxSize;
+	}
+}
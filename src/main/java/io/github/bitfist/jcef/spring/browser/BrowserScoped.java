@@ -0,0 +1,34 @@
+package io.github.bitfist.jcef.spring.browser;
+
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.core.annotation.AliasFor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 🪟 Binds a bean to the browser window a query originates from.
+ * <p>
+ * Each browser gets its own instance, created lazily on the first query of that browser needing it and destroyed when
+ * the browser closes. Useful for per-window state of {@code @TypeScriptService} beans, such as view caches and
+ * selection models. Outside a query, see {@link CefQueryContext}, there is no current browser and accessing the bean
+ * fails.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Scope(BrowserScoped.SCOPE_NAME)
+public @interface BrowserScoped {
+
+	String SCOPE_NAME = "browser";
+
+	/**
+	 * Proxy mode, by default a class based proxy so that the bean can be injected into singletons.
+	 */
+	@AliasFor(annotation = Scope.class)
+	ScopedProxyMode proxyMode() default ScopedProxyMode.TARGET_CLASS;
+}
@@ -0,0 +1,14 @@
+package io.github.bitfist.jcef.spring.browser;
+
+import org.cef.browser.CefBrowser;
+
+/**
+ * 👁 Published when the main window is minimized or hidden and when it is shown again.
+ * <p>
+ * Listen to it to pause work that only serves the UI, e.g. pollers, while nobody can see the window.
+ *
+ * @param browser Browser of the window.
+ * @param visible Whether the window is visible now.
+ */
+public record BrowserVisibilityChangedEvent(CefBrowser browser, boolean visible) {
+}
@@ -0,0 +1,22 @@
+package io.github.bitfist.jcef.spring.browser;
+
+/**
+ * 🪟 A secondary browser window opened through {@link BrowserWindows}.
+ */
+public interface BrowserWindow {
+
+	/**
+	 * 🧭 Route the window was opened with.
+	 */
+	String getRoute();
+
+	/**
+	 * 🖥 Browser of this window.
+	 */
+	Browser getBrowser();
+
+	/**
+	 * ❌ Closes the window and returns its browser to the pool.
+	 */
+	void close();
+}
@@ -0,0 +1,17 @@
+package io.github.bitfist.jcef.spring.browser;
+
+/**
+ * 🪟 Opens secondary browser windows next to the main window.
+ * <p>
+ * Windows are backed by a pool of browsers that already loaded the UI, so opening one only assigns its route.
+ */
+public interface BrowserWindows {
+
+	/**
+	 * 🪟 Opens a window showing the given route of the UI.
+	 *
+	 * @param route Route applied as URL fragment, e.g. {@code /orders/42}.
+	 * @return The opened window.
+	 */
+	BrowserWindow open(String route);
+}
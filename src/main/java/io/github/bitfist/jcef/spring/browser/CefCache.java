@@ -0,0 +1,24 @@
+package io.github.bitfist.jcef.spring.browser;
+
+/**
+ * 🗃 Manages the disk caches of Chromium below the CEF data path.
+ * <p>
+ * The caches are kept within {@link BrowserProperties.Cache#getMaxSize() the configured size} by deleting the least
+ * recently used cache directories on startup, before CEF opens them. Chromium rebuilds a deleted cache, while deleting
+ * single files would corrupt its index. Only {@link CefCacheType#isPrunable() prunable} caches count toward the budget.
+ */
+public interface CefCache {
+
+	/**
+	 * 📏 Size of all caches in bytes as measured on startup, before pruning.
+	 */
+	long getMeasuredSize();
+
+	/**
+	 * 🧹 Clears the given caches.
+	 * <p>
+	 * The HTTP cache is cleared right away. The other caches are held open by Chromium while it runs, so their files are
+	 * deleted on the next start.
+	 */
+	void clear(CefCacheType... types);
+}
@@ -0,0 +1,49 @@
+package io.github.bitfist.jcef.spring.browser;
+
+import java.util.List;
+
+/**
+ * 🗃 Disk caches of Chromium below the CEF data path, identified by their directory names.
+ */
+public enum CefCacheType {
+
+	/**
+	 * 🌐 HTTP cache of loaded resources.
+	 */
+	HTTP(true, "Cache"),
+
+	/**
+	 * ⚙️ Compiled JavaScript and WebAssembly.
+	 */
+	CODE(true, "Code Cache"),
+
+	/**
+	 * 🎮 Compiled GPU shaders.
+	 */
+	GPU(true, "GPUCache", "GrShaderCache", "ShaderCache", "DawnCache", "DawnGraphiteCache", "DawnWebGPUCache"),
+
+	/**
+	 * 👷 Caches and scripts of service workers. They hold the offline assets of the application, so they are only
+	 * deleted when {@link CefCache#clear(CefCacheType...) cleared} explicitly, never to stay within the budget.
+	 */
+	SERVICE_WORKER(false, "CacheStorage", "ScriptCache");
+
+	private final boolean prunable;
+	private final List<String> directoryNames;
+
+	CefCacheType(boolean prunable, String... directoryNames) {
+		this.prunable = prunable;
+		this.directoryNames = List.of(directoryNames);
+	}
+
+	/**
+	 * ✂️ Whether the cache may be deleted to stay within {@link BrowserProperties.Cache#getMaxSize() the budget}.
+	 */
+	public boolean isPrunable() {
+		return prunable;
+	}
+
+	public List<String> getDirectoryNames() {
+		return directoryNames;
+	}
+}
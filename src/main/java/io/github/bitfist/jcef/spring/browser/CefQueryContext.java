@@ -0,0 +1,43 @@
+package io.github.bitfist.jcef.spring.browser;
+
+import org.cef.browser.CefBrowser;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 🧭 Gives query and subscription handlers access to the browser a query originates from.
+ * <p>
+ * Set while a query of the UI is dispatched, e.g. during a {@code @TypeScriptService} call.
+ */
+public final class CefQueryContext {
+
+	private static final ThreadLocal<@Nullable CefBrowser> BROWSER = new ThreadLocal<>();
+
+	// Prevent instantiation
+	private CefQueryContext() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * 🖥 Browser of the query currently dispatched on this thread, or {@code null} outside of a query.
+	 */
+	public static @Nullable CefBrowser getBrowser() {
+		return BROWSER.get();
+	}
+
+	/**
+	 * ▶️ Runs the action with the given browser as origin of the current query.
+	 */
+	public static void runWith(CefBrowser browser, Runnable action) {
+		var previous = BROWSER.get();
+		BROWSER.set(browser);
+		try {
+			action.run();
+		} finally {
+			if (previous == null) {
+				BROWSER.remove();
+			} else {
+				BROWSER.set(previous);
+			}
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package io.github.bitfist.jcef.spring.browser;
+
+/**
+ * 📡 An open persistent query through which messages can be pushed to the page.
+ */
+public interface CefSubscription {
+
+	/**
+	 * Delivers a message to the page, the subscription stays open.
+	 */
+	void send(String message);
+
+	/**
+	 * Ends the subscription with an error.
+	 */
+	void fail(int errorCode, String errorMessage);
+}
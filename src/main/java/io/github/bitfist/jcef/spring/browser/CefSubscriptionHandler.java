@@ -0,0 +1,23 @@
+package io.github.bitfist.jcef.spring.browser;
+
+/**
+ * 📡 Handles persistent queries ({@code window.cefQuery({persistent: true, ...})}), which stay open until the page
+ * cancels them or navigates away.
+ */
+public interface CefSubscriptionHandler {
+
+	/**
+	 * Opens a subscription for the request.
+	 *
+	 * @param subscriptionId identifies the subscription in {@link #unsubscribe(long)}
+	 * @param request        the query request sent by the page
+	 * @param subscription   the channel to push messages through
+	 * @return {@code false} if this handler does not handle the request
+	 */
+	boolean subscribe(long subscriptionId, String request, CefSubscription subscription);
+
+	/**
+	 * Called when the page canceled the subscription.
+	 */
+	void unsubscribe(long subscriptionId);
+}
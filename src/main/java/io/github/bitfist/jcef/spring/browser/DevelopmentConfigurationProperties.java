@@ -18,6 +18,11 @@ public class DevelopmentConfigurationProperties {
 	private boolean showDeveloperTools;
 	private boolean enableWebCommunication;
 	private @Nullable String frontendUri;
+	/**
+	 * Keeps CEF running and only recreates the browser when the application context restarts, e.g. by Spring Boot
+	 * DevTools. Requires the starter and JCEF to be loaded from jars, outside the restart class loader.
+	 */
+	private boolean keepAliveOnRestart;
 
 	public String getFrontendUri() {
 		if (isBlank(frontendUri)) {
@@ -0,0 +1,29 @@
+package io.github.bitfist.jcef.spring.browser;
+
+import io.github.bitfist.jcef.spring.browser.internal.UIManifestWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 🏗️ Build-time entry point writing the {@code jcef-ui.manifest} of a built UI distribution, e.g. from a Gradle
+ * {@code JavaExec} task after the frontend build.
+ * <p>
+ * Usage: {@code UIManifestGenerator <distribution directory>}
+ */
+@Slf4j
+public final class UIManifestGenerator {
+
+	private UIManifestGenerator() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: UIManifestGenerator <distribution directory>");
+		}
+		var distribution = Path.of(args[0]);
+		var files = UIManifestWriter.write(distribution);
+		log.info("Wrote UI manifest with {} files to {}", files, distribution);
+	}
+}
@@ -2,12 +2,15 @@ package io.github.bitfist.jcef.spring.browser.internal;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.bitfist.jcef.spring.application.JcefApplicationProperties;
+import io.github.bitfist.jcef.spring.application.StartupPhase;
 import io.github.bitfist.jcef.spring.browser.Browser;
+import io.github.bitfist.jcef.spring.browser.BrowserProperties;
 import io.github.bitfist.jcef.spring.browser.CefApplicationCustomizer;
 import io.github.bitfist.jcef.spring.browser.CefBrowserCustomizer;
 import io.github.bitfist.jcef.spring.browser.CefBrowserFrameCustomizer;
 import io.github.bitfist.jcef.spring.browser.CefClientCustomizer;
 import io.github.bitfist.jcef.spring.browser.CefQueryHandler;
+import io.github.bitfist.jcef.spring.browser.CefSubscriptionHandler;
 import io.github.bitfist.jcef.spring.browser.DevelopmentConfigurationProperties;
 import io.github.bitfist.jcef.spring.swing.SwingComponentFactory;
 import io.github.bitfist.jcef.spring.swing.SwingExecutor;
@@ -19,15 +22,24 @@ import me.friwi.jcefmaven.MavenCefAppHandlerAdapter;
 import org.cef.CefApp;
 import org.cef.CefClient;
 import org.cef.browser.CefBrowser;
-import org.cef.browser.CefMessageRouter;
+import org.cef.handler.CefLifeSpanHandler;
+import org.cef.handler.CefLoadHandler;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.info.BuildProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.metrics.ApplicationStartup;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +51,7 @@ import java.util.Optional;
 @Configuration
 @RequiredArgsConstructor
 @Import(SwingComponentFactory.class)
+@EnableConfigurationProperties(BrowserProperties.class)
 class BrowserAutoConfiguration {
 
 	private final JcefApplicationProperties applicationProperties;
@@ -61,8 +74,14 @@ class BrowserAutoConfiguration {
 	}
 
 	@Bean
-	BrowserStarter browserStarter(CefApp cefApp, CefBrowser cefBrowser, List<CefBrowserFrameCustomizer> cefBrowserFrameCustomizers) {
-		return new BrowserStarter(cefApp, cefBrowser, cefBrowserFrameCustomizers);
+	BrowserStarter browserStarter(
+			CefApp cefApp,
+			CefBrowser cefBrowser,
+			List<CefBrowserFrameCustomizer> cefBrowserFrameCustomizers,
+			BrowserProperties browserProperties,
+			ApplicationEventPublisher eventPublisher
+	) {
+		return new BrowserStarter(cefApp, cefBrowser, cefBrowserFrameCustomizers, browserProperties, eventPublisher, developmentProperties.isKeepAliveOnRestart());
 	}
 
 	@Bean
@@ -70,64 +89,181 @@ class BrowserAutoConfiguration {
 		return new DefaultBrowser(cefBrowser);
 	}
 
+	@Bean
+	BrowserPool browserWindows(
+			CefClientFactory cefClientFactory,
+			UIInstaller uiInstaller,
+			BrowserLoadTracker browserLoadTracker,
+			BrowserScope browserScope,
+			BrowserRendering browserRendering,
+			SwingExecutor swingExecutor,
+			List<CefBrowserFrameCustomizer> cefBrowserFrameCustomizers,
+			BrowserProperties browserProperties
+	) {
+		var shellUrl = determineUiUri(uiInstaller).toString();
+		return new BrowserPool(cefClientFactory, shellUrl, browserProperties.getPool().getSize(), browserLoadTracker, browserScope, browserRendering, swingExecutor, cefBrowserFrameCustomizers);
+	}
+
 	// region CEF
 
+	@Bean
+	FirstLoadRecorder cefFirstLoadRecorder() {
+		return new FirstLoadRecorder();
+	}
+
+	@Bean
+	static BrowserScope browserScope() {
+		return new BrowserScope();
+	}
+
+	@Bean
+	CefCacheManager cefCacheManager(BrowserProperties browserProperties, ObjectProvider<CefBrowser> cefBrowser) {
+		// Caches opened by a CEF runtime kept alive across a restart must not be pruned
+		var pruneOnStart = !CefRuntimeHolder.isCefRunning();
+		return new CefCacheManager(applicationProperties.getJcefDataPath(), browserProperties.getCache().getMaxSize(), pruneOnStart, cefBrowser);
+	}
+
+	@Bean
+	BundleInstaller cefBundleInstaller(BrowserProperties browserProperties) {
+		var bundle = browserProperties.getBundle();
+		return new BundleInstaller(applicationProperties.getJcefInstallationPath(), bundle.getArchive(), bundle.getSha256());
+	}
+
+	@Bean
+	BrowserRendering cefBrowserRendering(BrowserProperties browserProperties) {
+		return new BrowserRendering(browserProperties.getWindowless());
+	}
+
+	@Bean
+	BrowserLoadTracker cefBrowserLoadTracker() {
+		return new BrowserLoadTracker();
+	}
+
+	@Bean
+	QueryGate cefQueryGate() {
+		return new QueryGate();
+	}
+
 	@Bean
 	ObjectMapper cefBrowserObjectMapper() {
 		return new ObjectMapper();
 	}
 
 	@Bean
-	CefApp cefApp(ConfigurableApplicationContext applicationContext, IProgressHandler progressHandler, List<CefApplicationCustomizer> cefApplicationCustomizers) {
+	@DependsOn("uiInstaller") // starts the UI installation before the blocking CEF initialization
+	CefApp cefApp(
+			ConfigurableApplicationContext applicationContext,
+			ApplicationStartup applicationStartup,
+			BrowserRendering browserRendering,
+			CefCacheManager cefCacheManager,
+			BundleInstaller bundleInstaller,
+			IProgressHandler progressHandler,
+			List<CefApplicationCustomizer> cefApplicationCustomizers
+	) {
+		var keepAlive = developmentProperties.isKeepAliveOnRestart();
+		if (keepAlive) {
+			CefRuntimeHolder.setContext(applicationContext);
+			if (CefRuntimeHolder.isCefRunning()) {
+				log.info("Reusing the CEF runtime of the previous application context");
+				return CefApp.getInstance();
+			}
+		}
 		var builder = new CefAppBuilder();
 		builder.setInstallDir(applicationProperties.getJcefInstallationPath().toFile());
-		builder.getCefSettings().windowless_rendering_enabled = false;
+		builder.getCefSettings().windowless_rendering_enabled = browserRendering.isWindowless();
 		builder.getCefSettings().root_cache_path = applicationProperties.getJcefDataPath().toFile().getAbsolutePath();
-		builder.setProgressHandler(progressHandler);
+		var recordingProgressHandler = new StartupRecordingProgressHandler(progressHandler, applicationStartup);
+		builder.setProgressHandler(recordingProgressHandler);
 		builder.setAppHandler(new MavenCefAppHandlerAdapter() {
 			@Override
 			public void stateHasChanged(CefApp.CefAppState state) {
 				if (state == CefApp.CefAppState.TERMINATED) {
-					applicationContext.close();
+					if (keepAlive) {
+						// The context that created CEF may have been replaced by a restart
+						CefRuntimeHolder.closeContext();
+					} else {
+						applicationContext.close();
+					}
 				}
 			}
 		});
 		cefApplicationCustomizers.forEach(consumer -> consumer.accept(builder));
 
-		try {
+		// CEF opens the caches on initialization, so they must not be pruned anymore
+		cefCacheManager.awaitPruning();
+		try (var ignored = StartupPhase.start(applicationStartup, "jcef.cef-app.build")) {
+			bundleInstaller.install(recordingProgressHandler);
 			return builder.build();
 		} catch (Exception e) {
 			log.error("Failed to create CefApp", e);
 			throw new RuntimeException(e);
+		} finally {
+			recordingProgressHandler.end();
 		}
 	}
 
 	@Bean
-	CefClient cefClient(CefApp cefApp, CefQueryHandler messageHandler, List<CefClientCustomizer> cefClientCustomizers) {
-		var client = cefApp.createClient();
-
-		// IMPORTANT: the message router must be created AFTER the client, otherwise this call causes a JVM crash
-		var messageRouter = CefMessageRouter.create();
-		messageRouter.addHandler(new DefaultCefMessageRouter(messageHandler), true);
+	CefClientFactory cefClientFactory(
+			CefApp cefApp,
+			CefQueryHandler messageHandler,
+			List<CefSubscriptionHandler> subscriptionHandlers,
+			QueryGate queryGate,
+			ListableBeanFactory beanFactory,
+			List<CefClientCustomizer> cefClientCustomizers,
+			BrowserScope browserScope
+	) {
+		var cefLoadHandlers = handlerBeans(beanFactory, CefLoadHandler.class);
+		var cefLifeSpanHandlers = handlerBeans(beanFactory, CefLifeSpanHandler.class);
+		var disposeClientsOnClose = developmentProperties.isKeepAliveOnRestart();
+		return new CefClientFactory(cefApp, messageHandler, subscriptionHandlers, queryGate, cefLoadHandlers, cefLifeSpanHandlers, cefClientCustomizers, browserScope, disposeClientsOnClose);
+	}
 
-		client.addMessageRouter(messageRouter);
-		cefClientCustomizers.forEach(consumer -> consumer.accept(client));
+	/**
+	 * 🔎 Collects the handler beans of the given type in order, except the clients: {@link CefClient} implements all
+	 * handler interfaces itself, and resolving the clients while creating them would be circular.
+	 */
+	static <T> List<T> handlerBeans(ListableBeanFactory beanFactory, Class<T> type) {
+		var handlers = new ArrayList<T>();
+		for (String name : beanFactory.getBeanNamesForType(type, true, false)) {
+			var beanType = beanFactory.getType(name, false);
+			if (beanType != null && !CefClient.class.isAssignableFrom(beanType)) {
+				handlers.add(beanFactory.getBean(name, type));
+			}
+		}
+		AnnotationAwareOrderComparator.sort(handlers);
+		return handlers;
+	}
 
-		return client;
+	@Bean
+	CefClient cefClient(ApplicationStartup applicationStartup, CefClientFactory cefClientFactory) {
+		try (var ignored = StartupPhase.start(applicationStartup, "jcef.cef-client.create")) {
+			return cefClientFactory.create("main");
+		}
 	}
 
 	@Bean
-	CefBrowser cefBrowser(CefClient client, List<CefBrowserCustomizer> cefBrowserCustomizers) {
-		var browser = client.createBrowser(determineUiUri().toString(), false, false);
-		cefBrowserCustomizers.forEach(consumer -> consumer.accept(browser));
-		return browser;
+	CefBrowser cefBrowser(
+			ApplicationStartup applicationStartup,
+			CefClient client,
+			UIInstaller uiInstaller,
+			BrowserRendering browserRendering,
+			FirstLoadRecorder firstLoadRecorder,
+			List<CefBrowserCustomizer> cefBrowserCustomizers
+	) {
+		var url = determineUiUri(uiInstaller).toString();
+		try (var ignored = StartupPhase.start(applicationStartup, "jcef.cef-browser.create")) {
+			var browser = browserRendering.createBrowser(client, url);
+			cefBrowserCustomizers.forEach(consumer -> consumer.accept(browser));
+			firstLoadRecorder.start(url);
+			return browser;
+		}
 	}
 
-	private URI determineUiUri() {
+	private URI determineUiUri(UIInstaller uiInstaller) {
 		if (developmentProperties.isEnableWebCommunication()) {
 			return URI.create(developmentProperties.getFrontendUri());
 		} else {
-			return applicationProperties.getUiInstallationPath().resolve("index.html").toUri();
+			return uiInstaller.getUiPath().resolve("index.html").toUri();
 		}
 	}
 
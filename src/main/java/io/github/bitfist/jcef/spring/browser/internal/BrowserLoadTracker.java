@@ -0,0 +1,75 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandlerAdapter;
+import org.cef.network.CefRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🚦 Tracks which browsers finished loading their main frame, for browsers created after the client.
+ */
+@Slf4j
+class BrowserLoadTracker extends CefLoadHandlerAdapter {
+
+	private final Set<CefBrowser> loaded = new HashSet<>();
+	private final Map<CefBrowser, List<Runnable>> waiting = new HashMap<>();
+
+	/**
+	 * ▶️ Runs the action once the browser finished loading, right away if it already did.
+	 */
+	void whenLoaded(CefBrowser browser, Runnable action) {
+		synchronized (this) {
+			if (!loaded.contains(browser)) {
+				waiting.computeIfAbsent(browser, key -> new ArrayList<>()).add(action);
+				return;
+			}
+		}
+		action.run();
+	}
+
+	/**
+	 * 🧹 Drops the state of a browser that is about to navigate or close.
+	 */
+	synchronized void forget(CefBrowser browser) {
+		loaded.remove(browser);
+		waiting.remove(browser);
+	}
+
+	@Override
+	public void onLoadStart(CefBrowser browser, CefFrame frame, CefRequest.TransitionType transitionType) {
+		if (frame.isMain()) {
+			synchronized (this) {
+				loaded.remove(browser);
+			}
+		}
+	}
+
+	@Override
+	public void onLoadEnd(CefBrowser browser, CefFrame frame, int httpStatusCode) {
+		if (!frame.isMain()) {
+			return;
+		}
+		List<Runnable> actions;
+		synchronized (this) {
+			loaded.add(browser);
+			actions = waiting.remove(browser);
+		}
+		if (actions != null) {
+			for (Runnable action : actions) {
+				try {
+					action.run();
+				} catch (RuntimeException exception) {
+					log.error("Browser load action failed", exception);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import io.github.bitfist.jcef.spring.browser.BrowserWindow;
+import io.github.bitfist.jcef.spring.browser.BrowserWindows;
+import io.github.bitfist.jcef.spring.browser.CefBrowserFrameCustomizer;
+import io.github.bitfist.jcef.spring.swing.SwingExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🏊 Keeps a pool of browsers that already loaded the UI shell, handed out to secondary windows.
+ * <p>
+ * Pooled browsers are created once the application is ready, so they do not compete with the main window. A window
+ * only assigns its route as URL fragment; when it closes, its browser reloads the shell and goes back to the pool.
+ * Every pooled browser has a client of its own, so its queries are dispatched on a separate lane.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class BrowserPool implements BrowserWindows, AutoCloseable {
+
+	private final CefClientFactory cefClientFactory;
+	private final String shellUrl;
+	private final int size;
+	private final BrowserLoadTracker loadTracker;
+	private final BrowserScope browserScope;
+	private final BrowserRendering browserRendering;
+	private final SwingExecutor swingExecutor;
+	private final List<CefBrowserFrameCustomizer> cefBrowserFrameCustomizers;
+
+	private final AtomicInteger windowCount = new AtomicInteger();
+	private final Deque<CefBrowser> idle = new ArrayDeque<>();
+	private boolean closed;
+
+	/**
+	 * 🔥 Fills the pool up to its size.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	synchronized void prewarm() {
+		while (!closed && idle.size() < size) {
+			idle.add(createBrowser());
+		}
+	}
+
+	@Override
+	public BrowserWindow open(String route) {
+		CefBrowser browser;
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("Browser pool is closed");
+			}
+			browser = idle.poll();
+		}
+		if (browser == null) {
+			browser = createBrowser();
+		}
+		var window = new PooledBrowserWindow(this, browser, route, swingExecutor, cefBrowserFrameCustomizers);
+		var assigned = browser;
+		loadTracker.whenLoaded(assigned, () -> navigate(assigned, route));
+		swingExecutor.invokeLater(() -> {
+			window.show();
+			prewarm();
+		});
+		return window;
+	}
+
+	/**
+	 * ♻️ Takes back the browser of a closed window, resetting it to the shell.
+	 */
+	void release(CefBrowser browser) {
+		boolean recycle;
+		synchronized (this) {
+			recycle = !closed && idle.size() < size;
+		}
+		// Mark as unloaded before navigating, so the next route waits for the fresh shell
+		loadTracker.forget(browser);
+		if (recycle) {
+			// The next window must not see the state of the previous one
+			browserScope.destroy(browser);
+			browser.loadURL(shellUrl);
+			synchronized (this) {
+				// Only handed out once it navigates, otherwise the reload would wipe the route of the next window
+				if (!closed && idle.size() < size) {
+					idle.add(browser);
+					return;
+				}
+			}
+		}
+		cefClientFactory.dispose(browser.getClient());
+	}
+
+	synchronized int idleCount() {
+		return idle.size();
+	}
+
+	private CefBrowser createBrowser() {
+		var client = cefClientFactory.create("window-" + windowCount.incrementAndGet());
+		var browser = browserRendering.createBrowser(client, shellUrl);
+		// Browsers are otherwise only created, and start loading, once they are displayed
+		browser.createImmediately();
+		return browser;
+	}
+
+	private void navigate(CefBrowser browser, String route) {
+		var fragment = new String(JsonStringEncoder.getInstance().quoteAsString(route));
+		browser.executeJavaScript("window.location.hash = \"" + fragment + "\";", shellUrl, 0);
+	}
+
+	@Override
+	public void close() {
+		List<CefBrowser> browsers;
+		synchronized (this) {
+			closed = true;
+			browsers = new ArrayList<>(idle);
+			idle.clear();
+		}
+		for (CefBrowser browser : browsers) {
+			loadTracker.forget(browser);
+			cefClientFactory.dispose(browser.getClient());
+		}
+	}
+}
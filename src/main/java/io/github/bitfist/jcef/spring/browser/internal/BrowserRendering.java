@@ -0,0 +1,36 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserProperties;
+import lombok.RequiredArgsConstructor;
+import org.cef.CefBrowserSettings;
+import org.cef.CefClient;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefRendering;
+
+/**
+ * 🎨 Creates browsers rendering either into a native window or, with windowless rendering enabled, off-screen into an
+ * {@link OffScreenBrowserPanel}.
+ */
+@RequiredArgsConstructor
+class BrowserRendering {
+
+	private static final int MAX_FRAME_RATE = 60;
+
+	private final BrowserProperties.Windowless windowless;
+
+	boolean isWindowless() {
+		return windowless.isEnabled();
+	}
+
+	CefBrowser createBrowser(CefClient client, String url) {
+		if (!windowless.isEnabled()) {
+			return client.createBrowser(url, false, false);
+		}
+		var settings = new CefBrowserSettings();
+		settings.windowless_frame_rate = Math.clamp(windowless.getFrameRate(), 1, MAX_FRAME_RATE);
+		var panel = new OffScreenBrowserPanel();
+		var browser = client.createBrowser(url, new CefRendering.CefRenderingWithHandler(panel.getRenderHandler(), panel), false, null, settings);
+		panel.attach(browser);
+		return browser;
+	}
+}
@@ -0,0 +1,111 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserScoped;
+import io.github.bitfist.jcef.spring.browser.CefQueryContext;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🪟 Scope of {@link BrowserScoped} beans, keyed by the identifier of the browser a query originates from.
+ * <p>
+ * Every browser has its own bean map, so windows never contend for a lock. Beans of a browser are destroyed once it
+ * closes, see {@link #destroy(CefBrowser)}.
+ */
+@Slf4j
+class BrowserScope implements Scope, BeanFactoryPostProcessor {
+
+	private final Map<Integer, ScopedBeans> browsers = new ConcurrentHashMap<>();
+
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+		beanFactory.registerScope(BrowserScoped.SCOPE_NAME, this);
+	}
+
+	@Override
+	public Object get(String name, ObjectFactory<?> objectFactory) {
+		var beans = browsers.computeIfAbsent(currentBrowser().getIdentifier(), identifier -> new ScopedBeans());
+		synchronized (beans) {
+			// No computeIfAbsent, creating the bean may create further beans of this browser
+			var instance = beans.instances.get(name);
+			if (instance == null) {
+				instance = objectFactory.getObject();
+				beans.instances.put(name, instance);
+			}
+			return instance;
+		}
+	}
+
+	@Override
+	public @Nullable Object remove(String name) {
+		var beans = browsers.get(currentBrowser().getIdentifier());
+		if (beans == null) {
+			return null;
+		}
+		synchronized (beans) {
+			beans.destructionCallbacks.remove(name);
+			return beans.instances.remove(name);
+		}
+	}
+
+	@Override
+	public void registerDestructionCallback(String name, Runnable callback) {
+		var beans = browsers.computeIfAbsent(currentBrowser().getIdentifier(), identifier -> new ScopedBeans());
+		synchronized (beans) {
+			beans.destructionCallbacks.put(name, callback);
+		}
+	}
+
+	@Override
+	public @Nullable Object resolveContextualObject(String key) {
+		return null;
+	}
+
+	@Override
+	public String getConversationId() {
+		return BrowserScoped.SCOPE_NAME + "-" + currentBrowser().getIdentifier();
+	}
+
+	/**
+	 * 🗑 Destroys all beans of a closing browser.
+	 */
+	void destroy(CefBrowser browser) {
+		var beans = browsers.remove(browser.getIdentifier());
+		if (beans == null) {
+			return;
+		}
+		synchronized (beans) {
+			for (Map.Entry<String, Runnable> callback : beans.destructionCallbacks.entrySet()) {
+				try {
+					callback.getValue().run();
+				} catch (RuntimeException exception) {
+					log.error("Failed to destroy browser scoped bean '{}'", callback.getKey(), exception);
+				}
+			}
+			beans.instances.clear();
+			beans.destructionCallbacks.clear();
+		}
+	}
+
+	private static CefBrowser currentBrowser() {
+		var browser = CefQueryContext.getBrowser();
+		if (browser == null) {
+			throw new IllegalStateException("No browser query in progress, browser scoped beans are only available while handling a query");
+		}
+		return browser;
+	}
+
+	private static final class ScopedBeans {
+
+		private final Map<String, Object> instances = new LinkedHashMap<>();
+		private final Map<String, Runnable> destructionCallbacks = new LinkedHashMap<>();
+	}
+}
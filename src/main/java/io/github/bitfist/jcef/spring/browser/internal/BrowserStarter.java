@@ -1,37 +1,90 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
+import io.github.bitfist.jcef.spring.application.InstanceLaunchedEvent;
+import io.github.bitfist.jcef.spring.application.StartupPhase;
+import io.github.bitfist.jcef.spring.browser.BrowserProperties;
+import io.github.bitfist.jcef.spring.browser.BrowserVisibilityChangedEvent;
 import io.github.bitfist.jcef.spring.browser.CefBrowserFrameCustomizer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cef.CefApp;
 import org.cef.browser.CefBrowser;
+import org.jspecify.annotations.Nullable;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
 
 import javax.swing.JFrame;
 import javax.swing.SwingUtilities;
 import java.awt.BorderLayout;
+import java.awt.Frame;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.List;
 
 /**
  * 🚀 Component that initializes and starts the JCEF browser UI
- * once the Spring application is fully ready.
+ * once the Spring application is fully ready, or as soon as the browser exists with
+ * {@link BrowserProperties#isEarlyShow() early show}.
+ * <p>
+ * While the window is minimized or hidden, the browser is told so it stops rendering, and a
+ * {@link BrowserVisibilityChangedEvent} is published. When the application is launched again, the window is brought
+ * to the front.
  */
 @Slf4j
 @RequiredArgsConstructor
-class BrowserStarter {
+class BrowserStarter implements AutoCloseable {
 
 	private final CefApp cefApp;
 	private final CefBrowser cefBrowser;
 	private final List<CefBrowserFrameCustomizer> cefBrowserFrameCustomizers;
+	private final BrowserProperties browserProperties;
+	private final ApplicationEventPublisher eventPublisher;
+	private final boolean keepAliveOnRestart;
+
+	// Only accessed on the event dispatch thread
+	private boolean visible = true;
+	private @Nullable JFrame frame;
+
+	@PostConstruct
+	void onCreated() {
+		if (browserProperties.isEarlyShow()) {
+			show();
+		}
+	}
 
 	@EventListener(ApplicationReadyEvent.class)
 	void onReady() {
+		if (!browserProperties.isEarlyShow()) {
+			show();
+		}
+	}
+
+	@EventListener
+	void onInstanceLaunched(InstanceLaunchedEvent event) {
 		SwingUtilities.invokeLater(() -> {
-			var frame = createFrame(cefBrowser, cefApp);
-			frame.setVisible(true);
+			var window = frame;
+			if (window == null) {
+				return;
+			}
+			if ((window.getExtendedState() & Frame.ICONIFIED) != 0) {
+				window.setExtendedState(window.getExtendedState() & ~Frame.ICONIFIED);
+			}
+			window.toFront();
+			window.requestFocus();
+		});
+	}
+
+	private void show() {
+		SwingUtilities.invokeLater(() -> {
+			try (var ignored = StartupPhase.detached("jcef.frame.show")) {
+				var window = createFrame(cefBrowser, cefApp);
+				frame = window;
+				window.setVisible(true);
+			}
 		});
 	}
 
@@ -39,8 +92,10 @@ class BrowserStarter {
 		var frame = new JFrame();
 		frame.getContentPane().setLayout(new BorderLayout());
 		frame.getContentPane().add(browser.getUIComponent(), BorderLayout.CENTER);
-		frame.setSize(1280, 800);
-		frame.setLocationRelativeTo(null);
+		CefRuntimeHolder.getFrameBounds().ifPresentOrElse(frame::setBounds, () -> {
+			frame.setSize(1280, 800);
+			frame.setLocationRelativeTo(null);
+		});
 		frame.addWindowListener(new WindowAdapter() {
 			@Override
 			public void windowClosing(WindowEvent e) {
@@ -48,8 +103,60 @@ class BrowserStarter {
 				frame.dispose();
 				System.exit(0);
 			}
+
+			@Override
+			public void windowIconified(WindowEvent e) {
+				visibilityChanged(false);
+			}
+
+			@Override
+			public void windowDeiconified(WindowEvent e) {
+				visibilityChanged(true);
+			}
+		});
+		frame.addComponentListener(new ComponentAdapter() {
+			@Override
+			public void componentHidden(ComponentEvent e) {
+				visibilityChanged(false);
+			}
+
+			@Override
+			public void componentShown(ComponentEvent e) {
+				visibilityChanged(true);
+			}
 		});
 		cefBrowserFrameCustomizers.forEach(consumer -> consumer.accept(frame));
 		return frame;
 	}
+
+	void visibilityChanged(boolean visible) {
+		if (this.visible == visible) {
+			return;
+		}
+		this.visible = visible;
+		log.debug("Browser window is {}", visible ? "visible" : "hidden");
+		cefBrowser.setWindowVisibility(visible);
+		// Stops rendering, animation frames and timers of the page are throttled by Chromium in turn
+		cefBrowser.wasHidden(!visible);
+		eventPublisher.publishEvent(new BrowserVisibilityChangedEvent(cefBrowser, visible));
+	}
+
+	/**
+	 * ♻️ Disposes the frame when the application context closes while CEF is kept alive, so the restarted context
+	 * shows its own browser in a frame with the same bounds.
+	 */
+	@Override
+	public void close() {
+		if (!keepAliveOnRestart) {
+			return;
+		}
+		SwingUtilities.invokeLater(() -> {
+			if (frame != null) {
+				CefRuntimeHolder.setFrameBounds(frame.getBounds());
+				frame.getContentPane().removeAll();
+				frame.dispose();
+				frame = null;
+			}
+		});
+	}
 }
@@ -0,0 +1,309 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import me.friwi.jcefmaven.EnumProgress;
+import me.friwi.jcefmaven.IProgressHandler;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 📦 Installs the JCEF bundle from a local archive instead of letting {@link me.friwi.jcefmaven.CefAppBuilder}
+ * download it.
+ * <p>
+ * The archive is decompressed in a single pass while the extracted files are written on virtual threads. The
+ * installation is staged next to the installation directory and moved into place once complete, together with the
+ * {@code install.lock} JCEF Maven checks on startup and a marker identifying the archive and its checksum. Later
+ * starts only compare the marker with the archive's size and modification time.
+ */
+@Slf4j
+class BundleInstaller {
+
+	static final String MARKER_FILE = ".jcef-bundle";
+	// Written by JCEF Maven after a successful installation, without it the bundle is installed again
+	static final String INSTALL_LOCK = "install.lock";
+
+	// Larger files, like libcef, are written directly instead of being buffered for a writer thread
+	private static final int DIRECT_WRITE_THRESHOLD = 4 * 1024 * 1024;
+	private static final int MAX_BUFFERED_KILOBYTES = 64 * 1024;
+	private static final int EXECUTABLE_BY_OWNER = 0100;
+
+	private final Path installationPath;
+	private final @Nullable Resource archive;
+	private final @Nullable String sha256;
+
+	BundleInstaller(Path installationPath, @Nullable Resource archive, @Nullable String sha256) {
+		this.installationPath = installationPath.toAbsolutePath();
+		this.archive = archive;
+		this.sha256 = sha256;
+	}
+
+	/**
+	 * 📦 Installs the configured archive unless it is already installed.
+	 *
+	 * @return Whether the bundle was installed.
+	 */
+	boolean install(IProgressHandler progressHandler) throws IOException {
+		if (archive == null) {
+			return false;
+		}
+		var identity = identity(archive);
+		if (isInstalled(identity)) {
+			log.debug("JCEF bundle from {} is already installed", archive.getDescription());
+			return false;
+		}
+		log.info("Installing JCEF bundle from {}", archive.getDescription());
+		progressHandler.handleProgress(EnumProgress.EXTRACTING, EnumProgress.NO_ESTIMATION);
+		var parent = installationPath.getParent();
+		Files.createDirectories(parent);
+		var staging = Files.createTempDirectory(parent, installationPath.getFileName() + ".staging-");
+		try {
+			var checksum = extract(archive, staging, progressHandler);
+			if (sha256 != null && !sha256.equalsIgnoreCase(checksum)) {
+				throw new IllegalStateException("Checksum " + checksum + " of " + archive.getDescription() + " does not match " + sha256);
+			}
+			Files.createFile(staging.resolve(INSTALL_LOCK));
+			Files.write(staging.resolve(MARKER_FILE), List.of(identity, checksum));
+			FileSystemUtils.deleteRecursively(installationPath);
+			Files.move(staging, installationPath, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			FileSystemUtils.deleteRecursively(staging);
+		}
+		log.info("Installed JCEF bundle into {}", installationPath);
+		return true;
+	}
+
+	private boolean isInstalled(String identity) throws IOException {
+		var marker = installationPath.resolve(MARKER_FILE);
+		if (!Files.isRegularFile(marker) || !Files.exists(installationPath.resolve(INSTALL_LOCK))) {
+			return false;
+		}
+		var lines = Files.readAllLines(marker);
+		return !lines.isEmpty() && lines.getFirst().equals(identity);
+	}
+
+	private String identity(Resource archive) {
+		return archive.getDescription() + "|" + contentLength(archive) + "|" + lastModified(archive) + "|" + sha256;
+	}
+
+	private String extract(Resource archive, Path staging, IProgressHandler progressHandler) throws IOException {
+		var digest = sha256Digest();
+		var length = contentLength(archive);
+		try (var raw = new CountingInputStream(new DigestInputStream(new BufferedInputStream(archive.getInputStream()), digest));
+			 var tar = new TarArchiveInputStream(new GZIPInputStream(openTarGz(archive, raw), 1 << 16));
+			 var writer = new ParallelWriter()) {
+			var realStaging = staging.toRealPath();
+			TarArchiveEntry entry;
+			while ((entry = tar.getNextEntry()) != null) {
+				var target = resolve(staging, entry.getName());
+				requireInside(realStaging, target, entry.getName());
+				if (entry.isDirectory()) {
+					Files.createDirectories(target);
+				} else if (entry.isSymbolicLink()) {
+					var link = Path.of(entry.getLinkName());
+					if (!target.getParent().resolve(link).normalize().startsWith(staging)) {
+						throw new IOException("Archive entry " + entry.getName() + " links outside of the installation");
+					}
+					Files.createDirectories(target.getParent());
+					Files.createSymbolicLink(target, link);
+				} else if (entry.isFile()) {
+					Files.createDirectories(target.getParent());
+					var executable = (entry.getMode() & EXECUTABLE_BY_OWNER) != 0;
+					if (entry.getSize() > DIRECT_WRITE_THRESHOLD) {
+						Files.copy(tar, target);
+						setExecutable(target, executable);
+					} else {
+						writer.write(target, tar.readAllBytes(), executable);
+					}
+				}
+				if (length > 0) {
+					progressHandler.handleProgress(EnumProgress.EXTRACTING, Math.min(100f, raw.getCount() * 100f / length));
+				}
+			}
+			writer.await();
+			// The checksum covers the whole archive, including anything after the tar
+			raw.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * 📂 Returns the {@code tar.gz} of the archive, unwrapping it from a {@code jcef-natives-<platform>} artifact.
+	 */
+	private static InputStream openTarGz(Resource archive, InputStream raw) throws IOException {
+		var name = String.valueOf(archive.getFilename()).toLowerCase(Locale.ROOT);
+		if (!name.endsWith(".jar") && !name.endsWith(".zip")) {
+			return raw;
+		}
+		var zip = new ZipInputStream(raw);
+		for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+			if (entry.getName().endsWith(".tar.gz")) {
+				return zip;
+			}
+		}
+		throw new IOException("No tar.gz found in " + archive.getDescription());
+	}
+
+	private static Path resolve(Path staging, String name) throws IOException {
+		var target = staging.resolve(name).normalize();
+		if (!target.startsWith(staging)) {
+			throw new IOException("Archive entry " + name + " points outside of the installation");
+		}
+		return target;
+	}
+
+	/**
+	 * 🔗 Rejects entries that would be written through a symbolic link to outside the staging directory, which the
+	 * lexical check of {@link #resolve(Path, String)} does not see.
+	 */
+	private static void requireInside(Path realStaging, Path target, String name) throws IOException {
+		var existing = target;
+		while (!Files.exists(existing, LinkOption.NOFOLLOW_LINKS)) {
+			existing = existing.getParent();
+		}
+		if (!existing.toRealPath().startsWith(realStaging)) {
+			throw new IOException("Archive entry " + name + " points outside of the installation");
+		}
+	}
+
+	private static void setExecutable(Path file, boolean executable) {
+		if (executable && !file.toFile().setExecutable(true, false)) {
+			log.warn("Failed to make {} executable", file);
+		}
+	}
+
+	private static long contentLength(Resource archive) {
+		try {
+			return archive.contentLength();
+		} catch (IOException exception) {
+			return -1;
+		}
+	}
+
+	private static long lastModified(Resource archive) {
+		try {
+			return archive.lastModified();
+		} catch (IOException exception) {
+			// Not available for resources inside jars, their length and description still identify them
+			return -1;
+		}
+	}
+
+	private static MessageDigest sha256Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256 is not supported", exception);
+		}
+	}
+
+	/**
+	 * ✍️ Writes buffered files on virtual threads, limiting the memory held by pending writes.
+	 */
+	private static final class ParallelWriter implements AutoCloseable {
+
+		private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+		private final Semaphore bufferedKilobytes = new Semaphore(MAX_BUFFERED_KILOBYTES);
+		private final List<Future<?>> writes = new ArrayList<>();
+
+		void write(Path target, byte[] content, boolean executable) throws IOException {
+			var permits = Math.max(1, content.length >> 10);
+			try {
+				bufferedKilobytes.acquire(permits);
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while extracting the JCEF bundle");
+			}
+			writes.add(executor.submit(() -> {
+				try {
+					Files.write(target, content);
+					setExecutable(target, executable);
+					return null;
+				} finally {
+					bufferedKilobytes.release(permits);
+				}
+			}));
+		}
+
+		void await() throws IOException {
+			for (Future<?> write : writes) {
+				try {
+					write.get();
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while extracting the JCEF bundle");
+				} catch (ExecutionException exception) {
+					if (exception.getCause() instanceof IOException ioException) {
+						throw ioException;
+					}
+					throw new IllegalStateException("Failed to extract the JCEF bundle", exception.getCause());
+				}
+			}
+		}
+
+		@Override
+		public void close() {
+			// Pending writes are only left after a failure, the staging directory is deleted afterward
+			executor.shutdownNow();
+			executor.close();
+		}
+	}
+
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		long getCount() {
+			return count;
+		}
+
+		@Override
+		public int read() throws IOException {
+			var value = super.read();
+			if (value >= 0) {
+				count++;
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			var read = super.read(buffer, offset, length);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+	}
+}
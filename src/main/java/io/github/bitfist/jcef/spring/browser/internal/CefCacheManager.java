@@ -0,0 +1,234 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.application.StartupPhase;
+import io.github.bitfist.jcef.spring.browser.CefCache;
+import io.github.bitfist.jcef.spring.browser.CefCacheType;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 🗃 Keeps the disk caches below the CEF data path within their size budget.
+ * <p>
+ * On startup the caches are measured and pruned on a background thread while the rest of the context starts;
+ * {@link #awaitPruning()} has to be called before CEF opens them. Pruning deletes whole cache directories, least
+ * recently used first, since the index and data files of a cache backend are only consistent together. Service worker
+ * caches, cookies and local storage are never pruned.
+ */
+@Slf4j
+class CefCacheManager implements CefCache {
+
+	static final String PENDING_CLEAR_FILE = ".jcef-cache-clear";
+
+	// Pruning stops well below the budget, so not every start has to prune again
+	private static final double PRUNE_TARGET_RATIO = 0.8;
+	// Caches are located up to "Default/Service Worker/CacheStorage", directories at the maximum depth are not entered
+	private static final int MAX_SCAN_DEPTH = 4;
+
+	private final Path dataPath;
+	private final @Nullable DataSize maxSize;
+	private final boolean pruneOnStart;
+	private final ObjectProvider<CefBrowser> cefBrowser;
+	private final Map<String, CefCacheType> typesByDirectory = Arrays.stream(CefCacheType.values())
+			.flatMap(type -> type.getDirectoryNames().stream().map(name -> Map.entry(name, type)))
+			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+	private volatile CompletableFuture<Void> pruning = CompletableFuture.completedFuture(null);
+	private volatile long measuredSize;
+
+	CefCacheManager(Path dataPath, @Nullable DataSize maxSize, boolean pruneOnStart, ObjectProvider<CefBrowser> cefBrowser) {
+		this.dataPath = dataPath;
+		this.maxSize = maxSize;
+		this.pruneOnStart = pruneOnStart;
+		this.cefBrowser = cefBrowser;
+	}
+
+	@PostConstruct
+	void initialize() {
+		if (!pruneOnStart) {
+			return;
+		}
+		pruning = CompletableFuture.runAsync(this::prune, runnable -> {
+			var thread = new Thread(runnable, "jcef-cache-prune");
+			thread.setDaemon(true);
+			thread.start();
+		});
+	}
+
+	/**
+	 * ⏳ Waits until the caches are pruned. A failed pruning is logged, it never prevents the start.
+	 */
+	void awaitPruning() {
+		try {
+			pruning.join();
+		} catch (RuntimeException exception) {
+			log.warn("Failed to prune the CEF caches", exception);
+		}
+	}
+
+	@Override
+	public long getMeasuredSize() {
+		awaitPruning();
+		return measuredSize;
+	}
+
+	@Override
+	public void clear(CefCacheType... types) {
+		var cleared = EnumSet.noneOf(CefCacheType.class);
+		cleared.addAll(List.of(types));
+		if (cleared.isEmpty()) {
+			return;
+		}
+		var browser = cefBrowser.getIfAvailable();
+		if (cleared.contains(CefCacheType.HTTP) && browser != null) {
+			browser.getDevToolsClient().executeDevToolsMethod("Network.clearBrowserCache", "{}");
+		}
+		try {
+			Files.createDirectories(dataPath);
+			var pending = readPendingClear();
+			pending.addAll(cleared);
+			Files.write(dataPath.resolve(PENDING_CLEAR_FILE), pending.stream().map(Enum::name).toList(),
+					StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+			log.info("Caches {} are deleted on the next start", pending);
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to schedule clearing the caches " + cleared, exception);
+		}
+	}
+
+	void prune() {
+		if (!Files.isDirectory(dataPath)) {
+			return;
+		}
+		try (var ignored = StartupPhase.detached("jcef.cache.prune")) {
+			var directories = scan();
+			measuredSize = directories.stream().mapToLong(CacheDirectory::size).sum();
+			var pending = readPendingClear();
+			var prunable = new ArrayList<CacheDirectory>(directories.size());
+			var total = 0L;
+			for (CacheDirectory directory : directories) {
+				if (pending.contains(directory.type())) {
+					delete(directory);
+				} else if (directory.type().isPrunable()) {
+					prunable.add(directory);
+					total += directory.size();
+				}
+			}
+			Files.deleteIfExists(dataPath.resolve(PENDING_CLEAR_FILE));
+			if (maxSize != null && total > maxSize.toBytes()) {
+				total = pruneOldest(prunable, total, (long) (maxSize.toBytes() * PRUNE_TARGET_RATIO));
+			}
+			log.debug("CEF caches measured {} MB, prunable caches {} MB after pruning", measuredSize >> 20, total >> 20);
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to prune the caches in " + dataPath, exception);
+		}
+	}
+
+	private long pruneOldest(List<CacheDirectory> directories, long total, long target) {
+		var sorted = new ArrayList<>(directories);
+		sorted.sort(Comparator.comparingLong(CacheDirectory::lastModified));
+		var remaining = total;
+		for (CacheDirectory directory : sorted) {
+			if (remaining <= target) {
+				break;
+			}
+			if (delete(directory)) {
+				remaining -= directory.size();
+			}
+		}
+		log.info("Pruned the CEF caches from {} MB to {} MB", total >> 20, remaining >> 20);
+		return remaining;
+	}
+
+	private static boolean delete(CacheDirectory directory) {
+		try {
+			FileSystemUtils.deleteRecursively(directory.path());
+			return true;
+		} catch (IOException exception) {
+			log.debug("Failed to delete cache directory {}", directory.path(), exception);
+			return false;
+		}
+	}
+
+	/**
+	 * 🔎 Collects all cache directories with their size and the time their newest file was modified.
+	 */
+	private List<CacheDirectory> scan() throws IOException {
+		var directories = new ArrayList<CacheDirectory>();
+		Files.walkFileTree(dataPath, Set.of(), MAX_SCAN_DEPTH, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+				var type = typesByDirectory.get(String.valueOf(directory.getFileName()));
+				if (type != null && !directory.equals(dataPath)) {
+					directories.add(measure(directory, type));
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exception) {
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		return directories;
+	}
+
+	private static CacheDirectory measure(Path cacheDirectory, CefCacheType type) throws IOException {
+		var size = new long[1];
+		var lastModified = new long[1];
+		Files.walkFileTree(cacheDirectory, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				if (attributes.isRegularFile()) {
+					size[0] += attributes.size();
+					lastModified[0] = Math.max(lastModified[0], attributes.lastModifiedTime().toMillis());
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exception) {
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		return new CacheDirectory(cacheDirectory, type, size[0], lastModified[0]);
+	}
+
+	private Set<CefCacheType> readPendingClear() throws IOException {
+		var file = dataPath.resolve(PENDING_CLEAR_FILE);
+		var pending = EnumSet.noneOf(CefCacheType.class);
+		if (Files.isRegularFile(file)) {
+			Files.readAllLines(file).stream()
+					.map(String::trim)
+					.map(name -> Arrays.stream(CefCacheType.values()).filter(type -> type.name().equals(name)).findFirst())
+					.flatMap(Optional::stream)
+					.forEach(pending::add);
+		}
+		return pending;
+	}
+
+	private record CacheDirectory(Path path, CefCacheType type, long size, long lastModified) {
+	}
+}
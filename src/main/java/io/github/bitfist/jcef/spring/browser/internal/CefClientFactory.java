@@ -0,0 +1,117 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.CefClientCustomizer;
+import io.github.bitfist.jcef.spring.browser.CefQueryHandler;
+import io.github.bitfist.jcef.spring.browser.CefSubscriptionHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.CefApp;
+import org.cef.CefClient;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefMessageRouter;
+import org.cef.handler.CefLifeSpanHandler;
+import org.cef.handler.CefLifeSpanHandlerAdapter;
+import org.cef.handler.CefLoadHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 🏭 Creates fully wired {@link CefClient}s, one per window.
+ * <p>
+ * Every client gets its own message router and its own dispatch lane, a single thread handling the queries of that
+ * client in order. Load handlers, life span handlers, query and subscription handlers are shared. Closing browsers end
+ * their {@link BrowserScope}. If CEF outlives the application context, the clients are disposed with the context, so the
+ * next context creates its own, bound to its handlers.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class CefClientFactory implements AutoCloseable {
+
+	private final CefApp cefApp;
+	private final CefQueryHandler messageHandler;
+	private final List<CefSubscriptionHandler> subscriptionHandlers;
+	private final QueryGate queryGate;
+	private final List<CefLoadHandler> cefLoadHandlers;
+	private final List<CefLifeSpanHandler> cefLifeSpanHandlers;
+	private final List<CefClientCustomizer> cefClientCustomizers;
+	private final BrowserScope browserScope;
+	private final boolean disposeClientsOnClose;
+
+	private final Map<CefClient, Lane> lanes = new ConcurrentHashMap<>();
+
+	/**
+	 * 🏭 Creates a client whose queries are dispatched on the lane {@code jcef-query-<name>}.
+	 */
+	CefClient create(String name) {
+		var client = cefApp.createClient();
+		if (!cefLoadHandlers.isEmpty()) {
+			client.addLoadHandler(new CompositeCefLoadHandler(cefLoadHandlers));
+		}
+		var lifeSpanHandlers = new ArrayList<CefLifeSpanHandler>(cefLifeSpanHandlers.size() + 1);
+		lifeSpanHandlers.addAll(cefLifeSpanHandlers);
+		// Last, so the handlers of the application can still use the browser scoped beans while the browser closes
+		lifeSpanHandlers.add(new CefLifeSpanHandlerAdapter() {
+			@Override
+			public void onBeforeClose(CefBrowser browser) {
+				browserScope.destroy(browser);
+			}
+		});
+		client.addLifeSpanHandler(new CompositeCefLifeSpanHandler(lifeSpanHandlers));
+
+		var executor = Executors.newSingleThreadExecutor(runnable -> {
+			var thread = new Thread(runnable, "jcef-query-" + name);
+			thread.setDaemon(true);
+			return thread;
+		});
+		var router = new DefaultCefMessageRouter(messageHandler, subscriptionHandlers, queryGate, executor);
+		// IMPORTANT: the message router must be created AFTER the client, otherwise this call causes a JVM crash
+		var messageRouter = CefMessageRouter.create();
+		messageRouter.addHandler(router, true);
+		client.addMessageRouter(messageRouter);
+		lanes.put(client, new Lane(router, executor));
+
+		cefClientCustomizers.forEach(consumer -> consumer.accept(client));
+		return client;
+	}
+
+	/**
+	 * 🗑 Disposes the client, closing its browsers, subscriptions and lane.
+	 */
+	void dispose(CefClient client) {
+		// Disposed first, the queries CEF cancels while closing the browsers still reach the lane
+		client.dispose();
+		var lane = lanes.remove(client);
+		if (lane != null) {
+			lane.close();
+		}
+	}
+
+	@Override
+	public void close() {
+		for (CefClient client : new ArrayList<>(lanes.keySet())) {
+			if (disposeClientsOnClose) {
+				client.dispose();
+			}
+			var lane = lanes.remove(client);
+			if (lane != null) {
+				lane.close();
+			}
+		}
+	}
+
+	private record Lane(DefaultCefMessageRouter router, ExecutorService executor) {
+
+		/**
+		 * Lets the lane answer the queries it already accepted, then ends the subscriptions and stops the thread.
+		 */
+		void close() {
+			executor.execute(router::close);
+			executor.shutdown();
+		}
+	}
+}
@@ -1,14 +1,20 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
+import io.github.bitfist.jcef.spring.browser.BrowserScoped;
+import io.github.bitfist.jcef.spring.browser.CefQueryContext;
 import io.github.bitfist.jcef.spring.browser.CefQueryHandler;
 import lombok.RequiredArgsConstructor;
+import org.cef.browser.CefBrowser;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * A REST endpoint for invoking methods via HTTP POST requests.
  * This controller is activated when the configuration property
@@ -25,6 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
  * <li>Delegates query processing to the {@link CefQueryHandler}.</li>
  * <li>Supports nullable input and output for enhanced flexibility in communication.</li>
  * </ul>
+ * <p>
+ * Requests are handled as queries of the main browser, so the web UI shares its {@link BrowserScoped} beans.
  */
 @RestController
 @ConditionalOnProperty(name = "jcef.development.enable-web-communication", havingValue = "true")
@@ -33,10 +41,17 @@ import org.springframework.web.bind.annotation.RestController;
 class CefQueryRestEndpoint {
 
 	private final CefQueryHandler queryHandler;
+	private final ObjectProvider<CefBrowser> cefBrowser;
 
 	@PostMapping
 	@Nullable
 	String invokeMethod(@RequestBody @Nullable String query) {
-		return queryHandler.handleQuery(query);
+		var browser = cefBrowser.getIfAvailable();
+		if (browser == null) {
+			return queryHandler.handleQuery(query);
+		}
+		var result = new AtomicReference<@Nullable String>();
+		CefQueryContext.runWith(browser, () -> result.set(queryHandler.handleQuery(query)));
+		return result.get();
 	}
 }
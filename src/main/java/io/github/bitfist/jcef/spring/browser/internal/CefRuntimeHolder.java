@@ -0,0 +1,60 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.cef.CefApp;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.awt.Rectangle;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ♻️ Keeps the state of the CEF runtime that has to outlive a restart of the application context, e.g. by Spring Boot
+ * DevTools.
+ * <p>
+ * JCEF keeps its {@link CefApp} in a static singleton, which survives restarts as long as JCEF is loaded outside the
+ * restart class loader. Loaded from the same jar as the starter, this holder likewise keeps the context that is
+ * closed once CEF terminates and the bounds of the last browser frame.
+ */
+final class CefRuntimeHolder {
+
+	private static final AtomicReference<@Nullable ConfigurableApplicationContext> CONTEXT = new AtomicReference<>();
+	private static final AtomicReference<@Nullable Rectangle> FRAME_BOUNDS = new AtomicReference<>();
+
+	// Prevent instantiation
+	private CefRuntimeHolder() {
+		throw new IllegalStateException("Utility class");
+	}
+
+	/**
+	 * 🔎 Whether CEF is already initialized, i.e. by a previous application context.
+	 */
+	static boolean isCefRunning() {
+		return CefApp.getState() == CefApp.CefAppState.INITIALIZED;
+	}
+
+	/**
+	 * 🔗 Sets the context to close once CEF terminates.
+	 */
+	static void setContext(ConfigurableApplicationContext context) {
+		CONTEXT.set(context);
+	}
+
+	/**
+	 * ❌ Closes the current context.
+	 */
+	static void closeContext() {
+		var context = CONTEXT.getAndSet(null);
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	static Optional<Rectangle> getFrameBounds() {
+		return Optional.ofNullable(FRAME_BOUNDS.get());
+	}
+
+	static void setFrameBounds(Rectangle bounds) {
+		FRAME_BOUNDS.set(new Rectangle(bounds));
+	}
+}
@@ -0,0 +1,78 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLifeSpanHandler;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 🔀 Dispatches life span events to all {@link CefLifeSpanHandler} beans.
+ * A {@code CefClient} only accepts a single life span handler, so every contribution has to go through this one.
+ * <p>
+ * A popup is canceled by the first handler returning {@code true}, later handlers are not asked. A browser is kept
+ * open if any handler handles {@code doClose}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class CompositeCefLifeSpanHandler implements CefLifeSpanHandler {
+
+	private final List<CefLifeSpanHandler> lifeSpanHandlers;
+
+	@Override
+	public boolean onBeforePopup(CefBrowser browser, CefFrame frame, String targetUrl, String targetFrameName) {
+		for (CefLifeSpanHandler handler : lifeSpanHandlers) {
+			if (test(handler, candidate -> candidate.onBeforePopup(browser, frame, targetUrl, targetFrameName))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void onAfterCreated(CefBrowser browser) {
+		dispatch(handler -> handler.onAfterCreated(browser));
+	}
+
+	@Override
+	public void onAfterParentChanged(CefBrowser browser) {
+		dispatch(handler -> handler.onAfterParentChanged(browser));
+	}
+
+	@Override
+	public boolean doClose(CefBrowser browser) {
+		var handled = false;
+		for (CefLifeSpanHandler handler : lifeSpanHandlers) {
+			handled |= test(handler, candidate -> candidate.doClose(browser));
+		}
+		return handled;
+	}
+
+	@Override
+	public void onBeforeClose(CefBrowser browser) {
+		dispatch(handler -> handler.onBeforeClose(browser));
+	}
+
+	private void dispatch(Consumer<CefLifeSpanHandler> event) {
+		for (CefLifeSpanHandler handler : lifeSpanHandlers) {
+			try {
+				event.accept(handler);
+			} catch (RuntimeException exception) {
+				log.error("Life span handler {} failed", handler.getClass().getName(), exception);
+			}
+		}
+	}
+
+	private static boolean test(CefLifeSpanHandler handler, Predicate<CefLifeSpanHandler> event) {
+		try {
+			return event.test(handler);
+		} catch (RuntimeException exception) {
+			log.error("Life span handler {} failed", handler.getClass().getName(), exception);
+			return false;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandler;
+import org.cef.network.CefRequest;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 🔀 Dispatches load events to all {@link CefLoadHandler} beans.
+ * A {@code CefClient} only accepts a single load handler, so every contribution has to go through this one.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class CompositeCefLoadHandler implements CefLoadHandler {
+
+	private final List<CefLoadHandler> loadHandlers;
+
+	@Override
+	public void onLoadingStateChange(CefBrowser browser, boolean isLoading, boolean canGoBack, boolean canGoForward) {
+		dispatch(handler -> handler.onLoadingStateChange(browser, isLoading, canGoBack, canGoForward));
+	}
+
+	@Override
+	public void onLoadStart(CefBrowser browser, CefFrame frame, CefRequest.TransitionType transitionType) {
+		dispatch(handler -> handler.onLoadStart(browser, frame, transitionType));
+	}
+
+	@Override
+	public void onLoadEnd(CefBrowser browser, CefFrame frame, int httpStatusCode) {
+		dispatch(handler -> handler.onLoadEnd(browser, frame, httpStatusCode));
+	}
+
+	@Override
+	public void onLoadError(CefBrowser browser, CefFrame frame, ErrorCode errorCode, String errorText, String failedUrl) {
+		dispatch(handler -> handler.onLoadError(browser, frame, errorCode, errorText, failedUrl));
+	}
+
+	private void dispatch(Consumer<CefLoadHandler> event) {
+		for (CefLoadHandler handler : loadHandlers) {
+			try {
+				event.accept(handler);
+			} catch (RuntimeException exception) {
+				log.error("Load handler {} failed", handler.getClass().getName(), exception);
+			}
+		}
+	}
+}
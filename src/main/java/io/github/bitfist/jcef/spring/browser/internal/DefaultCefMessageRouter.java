@@ -1,7 +1,10 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
+import io.github.bitfist.jcef.spring.browser.CefQueryContext;
 import io.github.bitfist.jcef.spring.browser.CefQueryException;
 import io.github.bitfist.jcef.spring.browser.CefQueryHandler;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import io.github.bitfist.jcef.spring.browser.CefSubscriptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cef.browser.CefBrowser;
@@ -9,25 +12,64 @@ import org.cef.browser.CefFrame;
 import org.cef.callback.CefQueryCallback;
 import org.cef.handler.CefMessageRouterHandlerAdapter;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Handles incoming Chromium Embedded Framework (CEF) queries and publishes
  * associated events to the application event system. This class extends
  * {@code CefMessageRouterHandlerAdapter} and provides default handling for
  * browser queries by processing JSON payloads and emitting application-specific
  * events.
+ * <p>
+ * Persistent queries are offered to the {@link CefSubscriptionHandler}s first and stay open until canceled. All
+ * queries pass the {@link QueryGate}, so they are only dispatched once the application is ready.
+ * <p>
+ * Queries are dispatched in order on the lane of the router, not on the CEF UI thread, so a busy window does not
+ * delay the queries of other windows. The originating browser is available through {@link CefQueryContext}.
  */
 @Slf4j
 @RequiredArgsConstructor
-class DefaultCefMessageRouter extends CefMessageRouterHandlerAdapter {
+class DefaultCefMessageRouter extends CefMessageRouterHandlerAdapter implements AutoCloseable {
+
+	// Query ids are only unique per router, subscription handlers are shared by all of them
+	private static final AtomicLong SUBSCRIPTION_IDS = new AtomicLong();
 
 	private final CefQueryHandler messageHandler;
+	private final List<CefSubscriptionHandler> subscriptionHandlers;
+	private final QueryGate queryGate;
+	private final Executor lane;
+	private final Map<Long, ActiveSubscription> subscriptions = new ConcurrentHashMap<>();
+	private final Set<Long> canceledHeldQueries = ConcurrentHashMap.newKeySet();
 
 	@Override
 	public boolean onQuery(CefBrowser browser, CefFrame frame, long queryId, String request, boolean persistent, CefQueryCallback callback) {
+		queryGate.execute(() -> {
+			try {
+				lane.execute(() -> CefQueryContext.runWith(browser, () -> dispatch(queryId, request, persistent, callback)));
+			} catch (RejectedExecutionException exception) {
+				// The client is disposed, nothing dispatches its queries anymore
+				callback.failure(503, "Browser is closed");
+			}
+		});
+		return true;
+	}
+
+	private void dispatch(long queryId, String request, boolean persistent, CefQueryCallback callback) {
+		if (canceledHeldQueries.remove(queryId)) {
+			return;
+		}
+		if (persistent && subscribe(queryId, request, callback)) {
+			return;
+		}
 		try {
 			var result = messageHandler.handleQuery(request);
 			callback.success(result);
-			return true;
 		} catch (CefQueryException exception) {
 			log.error("[ERROR] {} [CODE] {}", exception.getMessage(), exception.getErrorCode(), exception);
 			callback.failure(exception.getErrorCode(), exception.getMessage());
@@ -35,6 +77,80 @@ class DefaultCefMessageRouter extends CefMessageRouterHandlerAdapter {
 			log.error("Unexpected error: {}", throwable.getMessage(), throwable);
 			callback.failure(500, "Unexpected error: " + throwable.getMessage());
 		}
-		return true;
+	}
+
+	@Override
+	public void onQueryCanceled(CefBrowser browser, CefFrame frame, long queryId) {
+		try {
+			// On the lane, so that a subscription still waiting there is registered first
+			lane.execute(() -> cancel(queryId));
+		} catch (RejectedExecutionException exception) {
+			// Canceled while the client is disposed, its subscriptions are ended by close()
+			log.debug("Ignoring cancellation of query {} of a disposed client", queryId);
+		}
+	}
+
+	private void cancel(long queryId) {
+		var subscription = subscriptions.remove(queryId);
+		if (subscription != null) {
+			subscription.unsubscribe();
+		} else if (!queryGate.isOpen()) {
+			// Canceled while held back, e.g. by a reload before the application was ready
+			canceledHeldQueries.add(queryId);
+		}
+	}
+
+	private boolean subscribe(long queryId, String request, CefQueryCallback callback) {
+		var subscriptionId = SUBSCRIPTION_IDS.incrementAndGet();
+		var subscription = new CallbackSubscription(callback);
+		for (CefSubscriptionHandler handler : subscriptionHandlers) {
+			// Register before subscribing, the handler may already push messages
+			subscriptions.put(queryId, new ActiveSubscription(handler, subscriptionId));
+			try {
+				if (handler.subscribe(subscriptionId, request, subscription)) {
+					return true;
+				}
+			} catch (RuntimeException exception) {
+				log.error("Failed to subscribe: {}", exception.getMessage(), exception);
+				subscriptions.remove(queryId);
+				callback.failure(500, "Unexpected error: " + exception.getMessage());
+				return true;
+			}
+			subscriptions.remove(queryId);
+		}
+		return false;
+	}
+
+	/**
+	 * ❌ Ends all open subscriptions, called when the client of this router is disposed.
+	 */
+	@Override
+	public void close() {
+		for (Long queryId : subscriptions.keySet()) {
+			var subscription = subscriptions.remove(queryId);
+			if (subscription != null) {
+				subscription.unsubscribe();
+			}
+		}
+	}
+
+	private record ActiveSubscription(CefSubscriptionHandler handler, long subscriptionId) {
+
+		void unsubscribe() {
+			handler.unsubscribe(subscriptionId);
+		}
+	}
+
+	private record CallbackSubscription(CefQueryCallback callback) implements CefSubscription {
+
+		@Override
+		public void send(String message) {
+			callback.success(message);
+		}
+
+		@Override
+		public void fail(int errorCode, String errorMessage) {
+			callback.failure(errorCode, errorMessage);
+		}
 	}
 }
@@ -1,11 +1,12 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
 import io.github.bitfist.jcef.spring.browser.CefApplicationCustomizer;
-import io.github.bitfist.jcef.spring.browser.CefClientCustomizer;
 import io.github.bitfist.jcef.spring.browser.DevelopmentConfigurationProperties;
 import org.cef.browser.CefBrowser;
 import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandler;
 import org.cef.handler.CefLoadHandlerAdapter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -33,14 +34,15 @@ class DevelopmentAutoConfiguration {
 
 	@Bean
 	@ConditionalOnProperty(name = "jcef.development.show-developer-tools", havingValue = "true")
-	CefClientCustomizer developerToolsCustomizer() {
-		return cefClient -> {
-			cefClient.addLoadHandler(new CefLoadHandlerAdapter() {
-				@Override
-				public void onLoadEnd(CefBrowser browser, CefFrame frame, int httpStatus) {
+	CefLoadHandler developerToolsLoadHandler(ObjectProvider<CefBrowser> cefBrowser) {
+		return new CefLoadHandlerAdapter() {
+			@Override
+			public void onLoadEnd(CefBrowser browser, CefFrame frame, int httpStatus) {
+				// Only for the main window, not for every pooled browser loading in the background
+				if (browser == cefBrowser.getIfAvailable()) {
 					SwingUtilities.invokeLater(browser::openDevTools);
 				}
-			});
+			}
 		};
 	}
 
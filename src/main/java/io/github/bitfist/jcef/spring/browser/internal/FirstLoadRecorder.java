@@ -0,0 +1,46 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.application.StartupPhase;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandlerAdapter;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 📊 Records the time from browser creation until the main frame finished loading for the first time.
+ * <p>
+ * The load ends on a CEF thread, usually after the context refresh, so the phase is detached.
+ */
+class FirstLoadRecorder extends CefLoadHandlerAdapter {
+
+	private final AtomicReference<StartupPhase> phase = new AtomicReference<>();
+
+	/**
+	 * ▶️ Starts the phase, called once the browser was created.
+	 */
+	void start(String url) {
+		phase.set(StartupPhase.detached("jcef.browser.first-load").tag("url", url));
+	}
+
+	@Override
+	public void onLoadEnd(CefBrowser browser, CefFrame frame, int httpStatusCode) {
+		if (frame.isMain()) {
+			end("httpStatusCode", httpStatusCode);
+		}
+	}
+
+	@Override
+	public void onLoadError(CefBrowser browser, CefFrame frame, ErrorCode errorCode, String errorText, String failedUrl) {
+		if (frame.isMain()) {
+			end("errorCode", errorCode);
+		}
+	}
+
+	private void end(String key, Object value) {
+		var started = phase.getAndSet(null);
+		if (started != null) {
+			started.tag(key, value).close();
+		}
+	}
+}
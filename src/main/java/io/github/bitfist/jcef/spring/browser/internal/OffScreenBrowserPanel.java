@@ -0,0 +1,233 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.cef.browser.CefBrowser;
+import org.cef.handler.CefRenderHandler;
+import org.cef.handler.CefRenderHandlerAdapter;
+import org.jspecify.annotations.Nullable;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import java.awt.Cursor;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 🖼 Swing component showing an off-screen rendered browser.
+ * <p>
+ * Frames are copied into one image that is reused until the size changes, and only the dirty rectangles of a frame are
+ * copied and repainted. Mouse, keyboard and focus events of the component are forwarded to the browser.
+ */
+class OffScreenBrowserPanel extends JComponent {
+
+	private final Object lock = new Object();
+	private final RenderHandler renderHandler = new RenderHandler();
+	// Guarded by lock, written on the CEF UI thread and read on the event dispatch thread
+	private @Nullable BufferedImage view;
+	private @Nullable BufferedImage popup;
+	private @Nullable Rectangle popupBounds;
+
+	OffScreenBrowserPanel() {
+		setFocusable(true);
+		setFocusTraversalKeysEnabled(false);
+	}
+
+	CefRenderHandler getRenderHandler() {
+		return renderHandler;
+	}
+
+	/**
+	 * 🔗 Starts forwarding resizes and input events to the browser rendering into this panel.
+	 */
+	void attach(CefBrowser browser) {
+		addComponentListener(new ComponentAdapter() {
+			@Override
+			public void componentResized(ComponentEvent e) {
+				browser.wasResized(Math.max(1, getWidth()), Math.max(1, getHeight()));
+			}
+		});
+		var mouseForwarder = new MouseAdapter() {
+			@Override
+			public void mousePressed(MouseEvent e) {
+				requestFocusInWindow();
+				browser.sendMouseEvent(e);
+			}
+
+			@Override
+			public void mouseReleased(MouseEvent e) {
+				browser.sendMouseEvent(e);
+			}
+
+			@Override
+			public void mouseMoved(MouseEvent e) {
+				browser.sendMouseEvent(e);
+			}
+
+			@Override
+			public void mouseDragged(MouseEvent e) {
+				browser.sendMouseEvent(e);
+			}
+
+			@Override
+			public void mouseEntered(MouseEvent e) {
+				browser.sendMouseEvent(e);
+			}
+
+			@Override
+			public void mouseExited(MouseEvent e) {
+				browser.sendMouseEvent(e);
+			}
+
+			@Override
+			public void mouseWheelMoved(MouseWheelEvent e) {
+				browser.sendMouseWheelEvent(e);
+			}
+		};
+		addMouseListener(mouseForwarder);
+		addMouseMotionListener(mouseForwarder);
+		addMouseWheelListener(mouseForwarder);
+		addKeyListener(new KeyListener() {
+			@Override
+			public void keyTyped(KeyEvent e) {
+				browser.sendKeyEvent(e);
+			}
+
+			@Override
+			public void keyPressed(KeyEvent e) {
+				browser.sendKeyEvent(e);
+			}
+
+			@Override
+			public void keyReleased(KeyEvent e) {
+				browser.sendKeyEvent(e);
+			}
+		});
+		addFocusListener(new FocusListener() {
+			@Override
+			public void focusGained(FocusEvent e) {
+				browser.setFocus(true);
+			}
+
+			@Override
+			public void focusLost(FocusEvent e) {
+				browser.setFocus(false);
+			}
+		});
+	}
+
+	@Override
+	protected void paintComponent(Graphics graphics) {
+		synchronized (lock) {
+			if (view != null) {
+				graphics.drawImage(view, 0, 0, null);
+			}
+			if (popup != null && popupBounds != null) {
+				graphics.drawImage(popup, popupBounds.x, popupBounds.y, null);
+			}
+		}
+	}
+
+	/**
+	 * 📋 Copies the dirty rectangles of a frame into the image, replacing it only if the frame size changed.
+	 */
+	void paintFrame(boolean isPopup, Rectangle[] dirtyRects, ByteBuffer buffer, int width, int height) {
+		Rectangle[] updated = dirtyRects;
+		int offsetX = 0;
+		int offsetY = 0;
+		synchronized (lock) {
+			var image = isPopup ? popup : view;
+			if (image == null || image.getWidth() != width || image.getHeight() != height) {
+				image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+				// A new image has no previous content, so the whole frame is copied
+				updated = new Rectangle[]{new Rectangle(0, 0, width, height)};
+				if (isPopup) {
+					popup = image;
+				} else {
+					view = image;
+				}
+			}
+			// CEF delivers premultiplied BGRA bytes, which read little-endian are the ARGB integers of the image
+			var source = buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			var pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+			for (Rectangle rect : updated) {
+				var bounded = rect.intersection(new Rectangle(0, 0, width, height));
+				for (int y = bounded.y; y < bounded.y + bounded.height; y++) {
+					int index = y * width + bounded.x;
+					source.get(index, pixels, index, bounded.width);
+				}
+			}
+			if (isPopup && popupBounds != null) {
+				offsetX = popupBounds.x;
+				offsetY = popupBounds.y;
+			}
+		}
+		for (Rectangle rect : updated) {
+			repaint(rect.x + offsetX, rect.y + offsetY, rect.width, rect.height);
+		}
+	}
+
+	@Nullable BufferedImage getViewImage() {
+		synchronized (lock) {
+			return view;
+		}
+	}
+
+	private class RenderHandler extends CefRenderHandlerAdapter {
+
+		@Override
+		public Rectangle getViewRect(CefBrowser browser) {
+			return new Rectangle(0, 0, Math.max(1, getWidth()), Math.max(1, getHeight()));
+		}
+
+		@Override
+		public Point getScreenPoint(CefBrowser browser, Point viewPoint) {
+			var screenPoint = new Point(viewPoint);
+			if (isShowing()) {
+				SwingUtilities.convertPointToScreen(screenPoint, OffScreenBrowserPanel.this);
+			}
+			return screenPoint;
+		}
+
+		@Override
+		public void onPopupShow(CefBrowser browser, boolean show) {
+			if (!show) {
+				synchronized (lock) {
+					popup = null;
+					popupBounds = null;
+				}
+				repaint();
+			}
+		}
+
+		@Override
+		public void onPopupSize(CefBrowser browser, Rectangle size) {
+			synchronized (lock) {
+				popupBounds = new Rectangle(size);
+			}
+		}
+
+		@Override
+		public void onPaint(CefBrowser browser, boolean popup, Rectangle[] dirtyRects, ByteBuffer buffer, int width, int height) {
+			paintFrame(popup, dirtyRects, buffer, width, height);
+		}
+
+		@Override
+		public boolean onCursorChange(CefBrowser browser, int cursorType) {
+			SwingUtilities.invokeLater(() -> setCursor(Cursor.getPredefinedCursor(cursorType)));
+			return true;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.Browser;
+import io.github.bitfist.jcef.spring.browser.BrowserWindow;
+import io.github.bitfist.jcef.spring.browser.CefBrowserFrameCustomizer;
+import io.github.bitfist.jcef.spring.swing.SwingExecutor;
+import org.cef.browser.CefBrowser;
+import org.jspecify.annotations.Nullable;
+
+import javax.swing.JFrame;
+import javax.swing.WindowConstants;
+import java.awt.BorderLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 🪟 Secondary window hosting a browser borrowed from the {@link BrowserPool}.
+ */
+class PooledBrowserWindow implements BrowserWindow {
+
+	private final BrowserPool pool;
+	private final CefBrowser cefBrowser;
+	private final String route;
+	private final Browser browser;
+	private final SwingExecutor swingExecutor;
+	private final List<CefBrowserFrameCustomizer> cefBrowserFrameCustomizers;
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private @Nullable JFrame frame;
+
+	PooledBrowserWindow(BrowserPool pool, CefBrowser cefBrowser, String route, SwingExecutor swingExecutor, List<CefBrowserFrameCustomizer> cefBrowserFrameCustomizers) {
+		this.pool = pool;
+		this.cefBrowser = cefBrowser;
+		this.route = route;
+		this.browser = new DefaultBrowser(cefBrowser);
+		this.swingExecutor = swingExecutor;
+		this.cefBrowserFrameCustomizers = cefBrowserFrameCustomizers;
+	}
+
+	@Override
+	public String getRoute() {
+		return route;
+	}
+
+	@Override
+	public Browser getBrowser() {
+		return browser;
+	}
+
+	CefBrowser getCefBrowser() {
+		return cefBrowser;
+	}
+
+	/**
+	 * Creates and shows the frame, must be called on the event dispatch thread.
+	 */
+	void show() {
+		if (closed.get()) {
+			return;
+		}
+		var window = new JFrame();
+		window.setDefaultCloseOperation(WindowConstants.DO_NOTHING_ON_CLOSE);
+		window.getContentPane().setLayout(new BorderLayout());
+		window.getContentPane().add(cefBrowser.getUIComponent(), BorderLayout.CENTER);
+		window.setSize(1280, 800);
+		window.setLocationRelativeTo(null);
+		window.addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowClosing(WindowEvent e) {
+				close();
+			}
+		});
+		cefBrowserFrameCustomizers.forEach(consumer -> consumer.accept(window));
+		frame = window;
+		window.setVisible(true);
+	}
+
+	@Override
+	public void close() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+		swingExecutor.invokeLater(() -> {
+			if (frame != null) {
+				frame.getContentPane().remove(cefBrowser.getUIComponent());
+				frame.dispose();
+				frame = null;
+			}
+			pool.release(cefBrowser);
+		});
+	}
+}
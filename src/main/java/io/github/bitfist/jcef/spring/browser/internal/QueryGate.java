@@ -0,0 +1,61 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * 🚧 Holds back query dispatch until the application is ready.
+ * <p>
+ * The UI may start loading while the context is still refreshing, so queries are queued until
+ * {@link ApplicationReadyEvent} and then dispatched in arrival order.
+ */
+@Slf4j
+class QueryGate {
+
+	private final Queue<Runnable> pending = new ArrayDeque<>();
+	private boolean open;
+
+	/**
+	 * ▶️ Runs the dispatch right away if the gate is open, otherwise once it opens.
+	 */
+	void execute(Runnable dispatch) {
+		synchronized (this) {
+			if (!open) {
+				pending.add(dispatch);
+				return;
+			}
+		}
+		dispatch.run();
+	}
+
+	synchronized boolean isOpen() {
+		return open;
+	}
+
+	/**
+	 * 🔓 Dispatches all held queries and lets later ones pass.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	void open() {
+		while (true) {
+			Runnable dispatch;
+			synchronized (this) {
+				dispatch = pending.poll();
+				if (dispatch == null) {
+					// Only open once drained, so queries arriving meanwhile keep their order
+					open = true;
+					return;
+				}
+			}
+			try {
+				dispatch.run();
+			} catch (RuntimeException exception) {
+				log.error("Failed to dispatch held query", exception);
+			}
+		}
+	}
+}
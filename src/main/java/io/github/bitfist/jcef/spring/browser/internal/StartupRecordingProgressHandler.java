@@ -0,0 +1,46 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.application.StartupPhase;
+import lombok.RequiredArgsConstructor;
+import me.friwi.jcefmaven.EnumProgress;
+import me.friwi.jcefmaven.IProgressHandler;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import java.util.Locale;
+
+/**
+ * 📊 Records each {@link EnumProgress} state of the CEF initialization, such as downloading, extracting and
+ * initializing, as {@link StartupPhase} before passing the progress on.
+ */
+@RequiredArgsConstructor
+class StartupRecordingProgressHandler implements IProgressHandler {
+
+	private final IProgressHandler delegate;
+	private final ApplicationStartup applicationStartup;
+
+	private @Nullable EnumProgress state;
+	private @Nullable StartupPhase phase;
+
+	@Override
+	public void handleProgress(EnumProgress state, float percent) {
+		synchronized (this) {
+			if (state != this.state) {
+				end();
+				this.state = state;
+				phase = StartupPhase.start(applicationStartup, "jcef.cef-app." + state.name().toLowerCase(Locale.ROOT));
+			}
+		}
+		delegate.handleProgress(state, percent);
+	}
+
+	/**
+	 * ⏹ Ends the phase of the last state.
+	 */
+	synchronized void end() {
+		if (phase != null) {
+			phase.close();
+			phase = null;
+		}
+	}
+}
@@ -1,30 +1,87 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
 import io.github.bitfist.jcef.spring.application.JcefApplicationProperties;
+import io.github.bitfist.jcef.spring.application.StartupPhase;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.util.FileSystemUtils;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * 🔄 Syncs UI resources from the classpath into the installation directory.
- * Performs a full refresh if any resource is newer or missing.
+ * <p>
+ * Every UI version is installed side by side into {@code versions/<manifest hash>}. A version is staged in a temporary
+ * directory, files unchanged since the current version are hard-linked instead of copied, and the finished directory
+ * is renamed into place. Only then the {@code current} marker is switched, so an interrupted install never affects the
+ * running version.
+ * <p>
+ * Every process holds a shared lock on {@code versions/<version>.lock} for the version it serves. Outdated versions are
+ * deleted in the background once no process holds their lock anymore, staging directories only once they are
+ * abandoned. Files of an in-place install by earlier releases, directly below the UI installation path, are deleted
+ * with them.
+ * <p>
+ * If the distribution ships a {@link UIManifest} matching the current version, nothing else is read. Otherwise the
+ * shipped manifest serves as resource index; the classpath is only scanned for distributions without a manifest.
+ * <p>
+ * The installation runs on a background thread, concurrently to the CEF initialization; {@link #getUiPath()} waits
+ * for it to finish.
  */
 @Slf4j
-class UIInstaller {
+class UIInstaller implements AutoCloseable {
+
+	static final String VERSIONS_DIRECTORY = "versions";
+	static final String CURRENT_MARKER = "current";
+	private static final int VERSION_LENGTH = 16;
+	private static final String LOCK_SUFFIX = ".lock";
+	private static final String STAGING_INFIX = ".staging-";
+	// Installs take seconds, a staging directory this old was left behind by a process that did not finish
+	private static final Duration STALE_STAGING_AGE = Duration.ofHours(1);
+	// Shared by all installers of this JVM, closing any channel of a lock file may release all locks of the process on it
+	private static final Map<Path, HeldLock> HELD_LOCKS = new HashMap<>();
 
 	private final JcefApplicationProperties properties;
 	private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
 
+	private volatile @Nullable Path uiPath;
+	private volatile CompletableFuture<Void> installation = CompletableFuture.completedFuture(null);
+	private volatile CompletableFuture<Void> cleanup = CompletableFuture.completedFuture(null);
+	// Guarded by this, lock files of the versions this installer may serve
+	private final Set<Path> versionLocks = new HashSet<>();
+
 	/**
-	 * 🛠 Constructs the installer and triggers resource synchronization.
+	 * 🛠 Constructs the installer.
 	 *
 	 * @param properties Application properties guiding paths.
 	 */
@@ -34,96 +91,456 @@ class UIInstaller {
 
 	@PostConstruct
 	void initialize() {
-		installUIResources();
+		installation = CompletableFuture.runAsync(this::installUIResources, daemonThread("jcef-ui-install"));
+	}
+
+	/**
+	 * 📂 Directory of the current UI version, waiting for a running installation.
+	 */
+	Path getUiPath() {
+		installation.join();
+		var path = uiPath;
+		return path != null ? path : properties.getUiInstallationPath();
 	}
 
 	/**
-	 * ✅ Checks for updates and copies UI resources if needed.
+	 * ✅ Checks for updates and installs a new UI version if needed.
 	 */
 	private void installUIResources() {
-		try {
-			var targetBase = properties.getUiInstallationPath();
-			var pattern = "classpath*:" + properties.getDistributionClasspath() + "/**/*";
-			var resources = resolver.getResources(pattern);
-
-			if (needsFullRefresh(resources, targetBase)) {
-				log.info("Detected updated UI resources; cleaning {}", targetBase);
-				cleanDirectory(targetBase);
-				copyAll(resources, targetBase);
-				log.info("UI installation refreshed at {}", targetBase);
-			} else {
+		var targetBase = properties.getUiInstallationPath();
+		var versions = targetBase.resolve(VERSIONS_DIRECTORY);
+		try (var install = StartupPhase.detached("jcef.ui.install")) {
+			@Nullable String current;
+			@Nullable UIManifest shipped;
+			try (var ignored = StartupPhase.detached("jcef.ui.compare")) {
+				current = readCurrentVersion(targetBase);
+				if (current != null && isComplete(versions.resolve(current))) {
+					// Start from the current version, even if the update below fails
+					lockVersion(versions, current);
+					uiPath = versions.resolve(current);
+				} else {
+					current = null;
+				}
+				shipped = readShippedManifest();
+			}
+			if (shipped != null && versionOf(shipped).equals(current)) {
 				log.info("UI is up-to-date, no action taken");
+				install.tag("version", current);
+				scheduleCleanup(targetBase, current);
+				return;
+			}
+
+			Map<String, Resource> resources;
+			UIManifest manifest;
+			try (var ignored = StartupPhase.detached("jcef.ui.scan").tag("indexed", shipped != null)) {
+				// The shipped manifest doubles as resource index, so the classpath only has to be scanned without one
+				resources = shipped != null ? indexedResources(shipped) : findResources();
+				manifest = shipped != null ? shipped : computeManifest(resources);
 			}
+			var version = versionOf(manifest);
+			var versionDirectory = versions.resolve(version);
+			install.tag("version", version);
+			if (version.equals(current)) {
+				log.info("UI is up-to-date, no action taken");
+			} else {
+				// Locked before it exists, so no other process deletes it while it is staged
+				lockVersion(versions, version);
+				if (!isComplete(versionDirectory)) {
+					try (var ignored = StartupPhase.detached("jcef.ui.copy").tag("files", manifest.entries().size())) {
+						stage(manifest, resources, current == null ? null : versions.resolve(current), versionDirectory);
+					}
+				}
+				switchCurrentVersion(targetBase, version);
+				uiPath = versionDirectory;
+				releaseVersionsExcept(version);
+				log.info("UI version {} installed at {}", version, versionDirectory);
+			}
+			scheduleCleanup(targetBase, version);
 		} catch (IOException e) {
 			log.error("Failed to sync UI resources", e);
 		}
 	}
 
+	private @Nullable String readCurrentVersion(Path targetBase) throws IOException {
+		var marker = targetBase.resolve(CURRENT_MARKER);
+		if (!Files.isRegularFile(marker)) {
+			return null;
+		}
+		var version = Files.readString(marker, StandardCharsets.UTF_8).trim();
+		return version.isEmpty() ? null : version;
+	}
+
+	private static boolean isComplete(Path versionDirectory) {
+		return Files.isRegularFile(versionDirectory.resolve(UIManifest.INSTALLED_FILE_NAME));
+	}
+
+	private static String versionOf(UIManifest manifest) {
+		return manifest.hash().substring(0, VERSION_LENGTH);
+	}
+
+	private @Nullable UIManifest readShippedManifest() throws IOException {
+		var resource = new ClassPathResource(getDistributionClasspath() + "/" + UIManifest.FILE_NAME);
+		if (!resource.exists()) {
+			return null;
+		}
+		try (var inputStream = resource.getInputStream()) {
+			return UIManifest.read(inputStream);
+		}
+	}
+
 	/**
-	 * Determines if any resource is newer than its counterpart on disk
-	 * or if the installation directory is missing/empty.
-	 *
-	 * @param resources  array of classpath resources to check
-	 * @param targetBase installation root on disk
+	 * Resolves the resources listed in the shipped manifest directly.
 	 */
-	private boolean needsFullRefresh(Resource[] resources, Path targetBase) throws IOException {
-		if (!Files.exists(targetBase) || isEmptyDirectory(targetBase)) {
-			return true;
+	private Map<String, Resource> indexedResources(UIManifest manifest) {
+		var resources = new LinkedHashMap<String, Resource>();
+		for (String path : manifest.entries().keySet()) {
+			resources.put(path, new ClassPathResource(getDistributionClasspath() + "/" + path));
 		}
-		var prefix = "/" + properties.getDistributionClasspath() + "/";
-		for (Resource res : resources) {
+		return resources;
+	}
+
+	/**
+	 * Finds all UI resources by scanning the classpath, keyed by their path relative to the distribution root.
+	 */
+	private Map<String, Resource> findResources() throws IOException {
+		var prefix = "/" + getDistributionClasspath() + "/";
+		var resources = new LinkedHashMap<String, Resource>();
+		for (Resource res : resolver.getResources("classpath*:" + getDistributionClasspath() + "/**/*")) {
 			if (!res.isReadable() || res.getFilename() == null) {
 				continue;
 			}
 			var rel = extractRelative(res, prefix);
-			var dest = targetBase.resolve(rel);
-			var srcTs = res.lastModified();
-			long dstTs = Files.exists(dest)
-					? Files.getLastModifiedTime(dest).toMillis()
-					: -1;
-			if (srcTs > dstTs) {
-				return true;
+			if (!rel.equals(UIManifest.FILE_NAME)) {
+				resources.putIfAbsent(rel, res);
+			}
+		}
+		return resources;
+	}
+
+	private UIManifest computeManifest(Map<String, Resource> resources) throws IOException {
+		var entries = new TreeMap<String, UIManifest.Entry>();
+		for (Map.Entry<String, Resource> resource : resources.entrySet()) {
+			try (var in = resource.getValue().getInputStream()) {
+				entries.put(resource.getKey(), UIManifest.entryOf(in));
+			}
+		}
+		return new UIManifest(entries);
+	}
+
+	/**
+	 * Installs the version into a staging directory in parallel and renames it to its final name once complete.
+	 */
+	private void stage(UIManifest manifest, Map<String, Resource> resources, @Nullable Path previousDirectory, Path versionDirectory) throws IOException {
+		Files.createDirectories(versionDirectory.getParent());
+		var staging = Files.createTempDirectory(versionDirectory.getParent(), versionDirectory.getFileName() + STAGING_INFIX);
+		var previous = previousDirectory == null ? null : readManifest(previousDirectory);
+		try {
+			createDirectories(staging, manifest);
+
+			var copied = 0;
+			var tasks = new ArrayList<Future<?>>();
+			try (var extractor = new UIResourceExtractor(); var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (Map.Entry<String, UIManifest.Entry> entry : manifest.entries().entrySet()) {
+					var path = entry.getKey();
+					var target = resolveInside(staging, path);
+					if (previous != null && entry.getValue().equals(previous.entries().get(path))) {
+						tasks.add(executor.submit(() -> {
+							linkOrCopy(resolveInside(previousDirectory, path), target);
+							return null;
+						}));
+					} else {
+						var resource = resources.get(path);
+						if (resource == null) {
+							throw new IOException("UI manifest lists missing resource " + path);
+						}
+						copied++;
+						tasks.add(executor.submit(() -> {
+							extractor.extract(resource, target);
+							return null;
+						}));
+					}
+				}
+				awaitAll(tasks);
+			}
+			log.info("Staged UI: {} files copied, {} reused", copied, manifest.entries().size() - copied);
+
+			manifest.write(staging.resolve(UIManifest.INSTALLED_FILE_NAME));
+			try {
+				Files.move(staging, versionDirectory, StandardCopyOption.ATOMIC_MOVE);
+			} catch (FileAlreadyExistsException exception) {
+				// Installed concurrently, the staged copy is no longer needed
+				log.debug("UI version {} already exists", versionDirectory);
+			}
+		} finally {
+			if (Files.exists(staging)) {
+				FileSystemUtils.deleteRecursively(staging);
+			}
+		}
+	}
+
+	private static @Nullable UIManifest readManifest(Path versionDirectory) {
+		try {
+			return UIManifest.read(versionDirectory.resolve(UIManifest.INSTALLED_FILE_NAME));
+		} catch (IOException exception) {
+			log.warn("Ignoring unreadable UI manifest in {}", versionDirectory, exception);
+			return null;
+		}
+	}
+
+	private static void awaitAll(List<Future<?>> tasks) throws IOException {
+		for (Future<?> task : tasks) {
+			try {
+				task.get();
+			} catch (ExecutionException exception) {
+				if (exception.getCause() instanceof IOException ioException) {
+					throw ioException;
+				}
+				throw new IOException("Failed to install UI file", exception.getCause());
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while installing UI", exception);
 			}
 		}
-		return false;
 	}
 
 	/**
-	 * Returns true if the directory exists but has no files/subdirectories.
+	 * Creates all directories up front, so the parallel copies only create files.
 	 */
-	private boolean isEmptyDirectory(Path dir) throws IOException {
-		try (var ds = Files.newDirectoryStream(dir)) {
-			return !ds.iterator().hasNext();
+	private static void createDirectories(Path staging, UIManifest manifest) throws IOException {
+		var directories = new TreeSet<Path>();
+		for (String path : manifest.entries().keySet()) {
+			var parent = resolveInside(staging, path).getParent();
+			if (!parent.equals(staging)) {
+				directories.add(parent);
+			}
+		}
+		for (Path directory : directories) {
+			Files.createDirectories(directory);
 		}
 	}
 
 	/**
-	 * Deletes the directory (if present) and recreates it empty.
+	 * Installed files are never modified, so versions can share unchanged files through hard links.
 	 */
-	private void cleanDirectory(Path dir) throws IOException {
-		if (Files.exists(dir)) {
-			FileSystemUtils.deleteRecursively(dir);
+	private static void linkOrCopy(Path source, Path target) throws IOException {
+		try {
+			Files.createLink(target, source);
+		} catch (UnsupportedOperationException | IOException exception) {
+			Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
 		}
-		Files.createDirectories(dir);
 	}
 
 	/**
-	 * Copies all given resources into the target base, preserving structure.
+	 * Replaces the marker atomically, so it always names a complete version.
 	 */
-	private void copyAll(Resource[] resources, Path targetBase) throws IOException {
-		var prefix = "/" + properties.getDistributionClasspath() + "/";
-		for (Resource res : resources) {
-			if (!res.isReadable() || res.getFilename() == null) continue;
-			var rel = extractRelative(res, prefix);
-			var dest = targetBase.resolve(rel);
-			Files.createDirectories(dest.getParent());
-			try (var in = res.getInputStream()) {
-				Files.copy(in, dest, StandardCopyOption.REPLACE_EXISTING);
+	private static void switchCurrentVersion(Path targetBase, String version) throws IOException {
+		var marker = targetBase.resolve(CURRENT_MARKER);
+		var temporary = Files.createTempFile(targetBase, CURRENT_MARKER, ".tmp");
+		Files.writeString(temporary, version, StandardCharsets.UTF_8);
+		try {
+			Files.move(temporary, marker, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException exception) {
+			Files.move(temporary, marker, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * 🔒 Takes a shared lock on the version, held until the installer closes.
+	 */
+	private synchronized void lockVersion(Path versions, String version) throws IOException {
+		var lockFile = versions.resolve(version + LOCK_SUFFIX);
+		if (versionLocks.contains(lockFile)) {
+			return;
+		}
+		synchronized (HELD_LOCKS) {
+			var held = HELD_LOCKS.get(lockFile);
+			if (held == null) {
+				Files.createDirectories(versions);
+				var channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				try {
+					channel.lock(0, Long.MAX_VALUE, true);
+				} catch (IOException exception) {
+					channel.close();
+					throw exception;
+				}
+				held = new HeldLock(channel);
+				HELD_LOCKS.put(lockFile, held);
+			}
+			held.count++;
+		}
+		versionLocks.add(lockFile);
+	}
+
+	private synchronized void releaseVersionsExcept(String version) {
+		var keep = version + LOCK_SUFFIX;
+		var iterator = versionLocks.iterator();
+		while (iterator.hasNext()) {
+			var lockFile = iterator.next();
+			if (!lockFile.getFileName().toString().equals(keep)) {
+				release(lockFile);
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * 🔓 Releases the version locks, so other processes may delete the versions once outdated.
+	 */
+	@Override
+	public synchronized void close() {
+		versionLocks.forEach(UIInstaller::release);
+		versionLocks.clear();
+	}
+
+	private static void release(Path lockFile) {
+		synchronized (HELD_LOCKS) {
+			var held = HELD_LOCKS.get(lockFile);
+			if (held == null || --held.count > 0) {
+				return;
+			}
+			HELD_LOCKS.remove(lockFile);
+			try {
+				held.channel.close();
+			} catch (IOException exception) {
+				log.debug("Failed to release UI version lock {}", lockFile, exception);
+			}
+		}
+	}
+
+	/**
+	 * 🧹 Deletes outdated versions no process uses anymore and abandoned staging directories on a background thread.
+	 */
+	private void scheduleCleanup(Path targetBase, String keepVersion) {
+		cleanup = CompletableFuture.runAsync(() -> {
+			deleteLegacyInstall(targetBase);
+			cleanup(targetBase.resolve(VERSIONS_DIRECTORY), keepVersion);
+		}, daemonThread("jcef-ui-cleanup"));
+	}
+
+	private static Executor daemonThread(String name) {
+		return runnable -> {
+			var thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			thread.start();
+		};
+	}
+
+	/**
+	 * 🧹 Deletes the files of an in-place install by earlier releases, which installed the UI directly into the UI
+	 * installation path. Only the versions, the {@code current} marker including its temporary files, and lock files
+	 * are kept.
+	 */
+	private static void deleteLegacyInstall(Path targetBase) {
+		try (var entries = Files.list(targetBase)) {
+			for (Path entry : (Iterable<Path>) entries::iterator) {
+				var name = entry.getFileName().toString();
+				if (name.equals(VERSIONS_DIRECTORY) || name.startsWith(CURRENT_MARKER) || name.endsWith(LOCK_SUFFIX)) {
+					continue;
+				}
+				FileSystemUtils.deleteRecursively(entry);
+				log.debug("Deleted legacy UI file {}", entry);
+			}
+		} catch (IOException exception) {
+			log.warn("Failed to delete the legacy UI install in {}", targetBase, exception);
+		}
+	}
+
+	private static void cleanup(Path versions, String keepVersion) {
+		var staleBefore = Instant.now().minus(STALE_STAGING_AGE);
+		var outdated = new TreeSet<String>();
+		try (var entries = Files.list(versions)) {
+			for (Path entry : (Iterable<Path>) entries::iterator) {
+				var name = entry.getFileName().toString();
+				if (name.contains(STAGING_INFIX)) {
+					if (Files.getLastModifiedTime(entry).toInstant().isBefore(staleBefore)) {
+						FileSystemUtils.deleteRecursively(entry);
+						log.debug("Deleted abandoned UI staging directory {}", entry);
+					}
+				} else {
+					var version = name.endsWith(LOCK_SUFFIX) ? name.substring(0, name.length() - LOCK_SUFFIX.length()) : name;
+					if (!version.equals(keepVersion)) {
+						outdated.add(version);
+					}
+				}
+			}
+		} catch (IOException exception) {
+			log.warn("Failed to list UI versions in {}", versions, exception);
+			return;
+		}
+		for (String version : outdated) {
+			deleteUnlessInUse(versions, version);
+		}
+	}
+
+	private static void deleteUnlessInUse(Path versions, String version) {
+		var lockFile = versions.resolve(version + LOCK_SUFFIX);
+		synchronized (HELD_LOCKS) {
+			if (HELD_LOCKS.containsKey(lockFile)) {
+				log.debug("UI version {} is still in use", version);
+				return;
 			}
-			log.debug("Copied UI file: {}", dest);
+			deleteUnlessLocked(versions, version, lockFile);
+		}
+	}
+
+	private static void deleteUnlessLocked(Path versions, String version, Path lockFile) {
+		try (var channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			FileLock lock;
+			try {
+				lock = channel.tryLock();
+			} catch (OverlappingFileLockException exception) {
+				// Locked through another channel of this JVM
+				lock = null;
+			}
+			if (lock == null) {
+				log.debug("UI version {} is still in use", version);
+				return;
+			}
+			FileSystemUtils.deleteRecursively(versions.resolve(version));
+			// Deleted while still locked, so nobody takes the lock of a version that is gone
+			Files.deleteIfExists(lockFile);
+			log.debug("Deleted outdated UI version {}", version);
+		} catch (IOException exception) {
+			log.warn("Failed to delete outdated UI version {}", version, exception);
+		}
+	}
+
+	private static final class HeldLock {
+
+		private final FileChannel channel;
+		private int count;
+
+		private HeldLock(FileChannel channel) {
+			this.channel = channel;
 		}
 	}
 
+	/**
+	 * Waits for the background cleanup, for tests.
+	 */
+	void awaitCleanup() {
+		installation.join();
+		cleanup.join();
+	}
+
+	/**
+	 * Resolves a manifest path, rejecting paths that would escape the target directory.
+	 */
+	private static Path resolveInside(Path targetBase, String path) throws IOException {
+		var resolved = targetBase.resolve(path).normalize();
+		if (!resolved.startsWith(targetBase.normalize())) {
+			throw new IOException("UI resource path escapes the installation directory: " + path);
+		}
+		return resolved;
+	}
+
+	private String getDistributionClasspath() {
+		var distributionClasspath = properties.getDistributionClasspath();
+		return distributionClasspath.endsWith("/")
+				? distributionClasspath.substring(0, distributionClasspath.length() - 1)
+				: distributionClasspath;
+	}
+
 	/**
 	 * Given a resource URL like ".../dist/path/to/file", strip everything
 	 * up to and including the prefix so we get "path/to/file".
@@ -137,4 +554,3 @@ class UIInstaller {
 		return rel.startsWith("/") ? rel.substring(1) : rel;
 	}
 }
-
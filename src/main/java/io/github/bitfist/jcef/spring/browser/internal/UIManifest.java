@@ -0,0 +1,142 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 📜 Content hashes of all UI files, keyed by their path relative to the distribution root.
+ * <p>
+ * One line per file, {@code <sha-256> <size> <path>}, sorted by path. The manifest hash covers all lines, so two
+ * installs are identical if their manifest hashes match.
+ */
+record UIManifest(SortedMap<String, Entry> entries) {
+
+	/**
+	 * Name of the manifest shipped next to the UI resources.
+	 */
+	static final String FILE_NAME = "jcef-ui.manifest";
+	/**
+	 * Name of the manifest describing the installed files.
+	 */
+	static final String INSTALLED_FILE_NAME = ".jcef-ui.manifest";
+
+	private static final String HEADER = "# jcef-ui-manifest 1";
+
+	UIManifest {
+		entries = Collections.unmodifiableSortedMap(new TreeMap<>(entries));
+	}
+
+	/**
+	 * Hash over the content of all entries.
+	 */
+	String hash() {
+		return sha256(toText().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Paths that are missing or differ in the other manifest.
+	 */
+	List<String> changedSince(UIManifest installed) {
+		var changed = new ArrayList<String>();
+		entries.forEach((path, entry) -> {
+			if (!entry.equals(installed.entries().get(path))) {
+				changed.add(path);
+			}
+		});
+		return changed;
+	}
+
+	/**
+	 * Paths of the other manifest that no longer exist in this one.
+	 */
+	List<String> removedSince(UIManifest installed) {
+		var removed = new ArrayList<String>();
+		for (String path : installed.entries().keySet()) {
+			if (!entries.containsKey(path)) {
+				removed.add(path);
+			}
+		}
+		return removed;
+	}
+
+	String toText() {
+		var buffer = new StringBuilder(HEADER).append('\n');
+		entries.forEach((path, entry) -> buffer.append(entry.hash()).append(' ').append(entry.size()).append(' ').append(path).append('\n'));
+		return buffer.toString();
+	}
+
+	void write(Path file) throws IOException {
+		Files.writeString(file, toText(), StandardCharsets.UTF_8);
+	}
+
+	static UIManifest read(InputStream inputStream) throws IOException {
+		var entries = new TreeMap<String, Entry>();
+		try (var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith("#")) {
+					continue;
+				}
+				var parts = line.split(" ", 3);
+				if (parts.length != 3) {
+					throw new IOException("Malformed UI manifest line: " + line);
+				}
+				try {
+					entries.put(parts[2], new Entry(parts[0], Long.parseLong(parts[1])));
+				} catch (NumberFormatException exception) {
+					throw new IOException("Malformed UI manifest line: " + line, exception);
+				}
+			}
+		}
+		return new UIManifest(entries);
+	}
+
+	static UIManifest read(Path file) throws IOException {
+		try (var inputStream = Files.newInputStream(file)) {
+			return read(inputStream);
+		}
+	}
+
+	/**
+	 * Hashes the content of a stream, which is consumed but not closed.
+	 */
+	static Entry entryOf(InputStream inputStream) throws IOException {
+		var digest = newDigest();
+		var buffer = new byte[64 * 1024];
+		long size = 0;
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			digest.update(buffer, 0, read);
+			size += read;
+		}
+		return new Entry(HexFormat.of().formatHex(digest.digest()), size);
+	}
+
+	static String sha256(byte[] content) {
+		return HexFormat.of().formatHex(newDigest().digest(content));
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256 is not available", exception);
+		}
+	}
+
+	record Entry(String hash, long size) {
+	}
+}
@@ -0,0 +1,46 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.UIManifestGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.TreeMap;
+
+/**
+ * 🏗️ Writes the {@value UIManifest#FILE_NAME} of a built UI distribution.
+ * <p>
+ * Only public to be reachable from {@link UIManifestGenerator}, the build-time entry point.
+ */
+public final class UIManifestWriter {
+
+	private UIManifestWriter() {
+	}
+
+	/**
+	 * 🏗️ Writes the manifest of all files in the distribution directory into it.
+	 *
+	 * @return The number of files in the manifest.
+	 */
+	public static int write(Path distribution) throws IOException {
+		var manifest = generate(distribution);
+		manifest.write(distribution.resolve(UIManifest.FILE_NAME));
+		return manifest.entries().size();
+	}
+
+	static UIManifest generate(Path distribution) throws IOException {
+		var entries = new TreeMap<String, UIManifest.Entry>();
+		try (var files = Files.walk(distribution)) {
+			for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+				var path = distribution.relativize(file).toString().replace('\\', '/');
+				if (path.equals(UIManifest.FILE_NAME)) {
+					continue;
+				}
+				try (var inputStream = Files.newInputStream(file)) {
+					entries.put(path, UIManifest.entryOf(inputStream));
+				}
+			}
+		}
+		return new UIManifest(entries);
+	}
+}
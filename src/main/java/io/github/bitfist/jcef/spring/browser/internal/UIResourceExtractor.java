@@ -0,0 +1,102 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+/**
+ * 📤 Extracts UI resources to files, safe for concurrent use.
+ * <p>
+ * Resources in an exploded classpath are transferred channel to channel, resources in a jar are read from a
+ * {@link ZipFile} that is opened once per jar instead of once per resource. Anything else, e.g. nested jars, is read
+ * through {@link Resource#getInputStream()}.
+ */
+@Slf4j
+final class UIResourceExtractor implements AutoCloseable {
+
+	private final Map<Path, ZipFile> archives = new HashMap<>();
+
+	/**
+	 * 📤 Writes the resource to the target file, which must not exist yet.
+	 */
+	void extract(Resource resource, Path target) throws IOException {
+		if (resource.isFile()) {
+			transfer(resource.getFile().toPath(), target);
+		} else {
+			try (var in = open(resource)) {
+				Files.copy(in, target);
+			}
+		}
+		log.debug("Copied UI file: {}", target);
+	}
+
+	private static void transfer(Path source, Path target) throws IOException {
+		try (var in = FileChannel.open(source, StandardOpenOption.READ);
+		     var out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			var size = in.size();
+			var position = 0L;
+			while (position < size) {
+				position += in.transferTo(position, size - position, out);
+			}
+		}
+	}
+
+	private InputStream open(Resource resource) throws IOException {
+		if (resource.getURL().openConnection() instanceof JarURLConnection connection) {
+			var jarFileUrl = connection.getJarFileURL();
+			if ("file".equals(jarFileUrl.getProtocol()) && connection.getEntryName() != null) {
+				var archive = archive(toPath(jarFileUrl));
+				var entry = archive != null ? archive.getEntry(connection.getEntryName()) : null;
+				if (entry != null) {
+					return archive.getInputStream(entry);
+				}
+			}
+		}
+		return resource.getInputStream();
+	}
+
+	private synchronized @Nullable ZipFile archive(@Nullable Path jarFile) throws IOException {
+		if (jarFile == null) {
+			return null;
+		}
+		var archive = archives.get(jarFile);
+		if (archive == null) {
+			archive = new ZipFile(jarFile.toFile());
+			archives.put(jarFile, archive);
+		}
+		return archive;
+	}
+
+	private static @Nullable Path toPath(URL url) {
+		try {
+			return Path.of(url.toURI());
+		} catch (URISyntaxException | IllegalArgumentException exception) {
+			return null;
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		for (ZipFile archive : archives.values()) {
+			try {
+				archive.close();
+			} catch (IOException exception) {
+				log.debug("Failed to close {}", archive.getName(), exception);
+			}
+		}
+		archives.clear();
+	}
+}
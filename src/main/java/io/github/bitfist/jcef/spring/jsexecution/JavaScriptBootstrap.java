@@ -0,0 +1,15 @@
+package io.github.bitfist.jcef.spring.jsexecution;
+
+/**
+ * Provides a script that is injected once into every loaded page, before scripts sent via {@link JavaScriptExecutor}.
+ * <p>
+ * Implemented by the classes generated for {@link JavaScriptCode} interfaces to register their snippets as functions,
+ * so later calls only have to send a short function invocation.
+ */
+public interface JavaScriptBootstrap {
+
+	/**
+	 * @return the script to be injected into every page, it must be safe to run more than once
+	 */
+	String getBootstrapScript();
+}
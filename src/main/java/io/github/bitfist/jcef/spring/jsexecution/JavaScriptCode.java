@@ -15,6 +15,12 @@ import java.lang.annotation.Target;
  * Methods annotated with {@code @Code} are typically processed during compilation to generate a mechanism for
  * executing the associated JavaScript within a browser environment.
  * </p>
+ *
+ * <p>
+ * Annotated methods either return {@code void} or {@code CompletableFuture<T>}. In the latter case the code is
+ * evaluated as a function body via {@link JavaScriptEvaluator}, so it has to {@code return} its result, which is
+ * decoded from JSON into {@code T}.
+ * </p>
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
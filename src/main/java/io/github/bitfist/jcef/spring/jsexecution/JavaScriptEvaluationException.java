@@ -0,0 +1,15 @@
+package io.github.bitfist.jcef.spring.jsexecution;
+
+/**
+ * Exception signaling that JavaScript code evaluated via {@link JavaScriptEvaluator} could not provide a result.
+ */
+public class JavaScriptEvaluationException extends RuntimeException {
+
+	public JavaScriptEvaluationException(String message) {
+		super(message);
+	}
+
+	public JavaScriptEvaluationException(String message, Exception cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,24 @@
+package io.github.bitfist.jcef.spring.jsexecution;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Evaluates JavaScript code within the browser and reads its result back into Java.
+ * <p>
+ * The code is executed as the body of a function, so it has to {@code return} its result. Promises are awaited. The
+ * result is serialized with {@code JSON.stringify} in the browser and decoded into the requested type.
+ */
+public interface JavaScriptEvaluator {
+
+	/**
+	 * Evaluates the provided JavaScript code within the browser.
+	 *
+	 * @param code       the JavaScript function body to be evaluated
+	 * @param resultType the type the JSON result is decoded into
+	 * @return a future completed with the decoded result, or exceptionally with a {@link JavaScriptEvaluationException}
+	 * or a {@link java.util.concurrent.TimeoutException}
+	 */
+	<T> CompletableFuture<T> evaluate(String code, TypeReference<T> resultType);
+}
@@ -0,0 +1,73 @@
+package io.github.bitfist.jcef.spring.jsexecution;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ⚙️ Configuration properties for Java to JavaScript execution.
+ * <p>
+ * Binds to properties prefixed with 'jcef.javascript'.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcef.javascript")
+public class JavaScriptExecutionProperties {
+
+	private final Queue queue = new Queue();
+	private final Batching batching = new Batching();
+	private final Evaluation evaluation = new Evaluation();
+
+	/**
+	 * ⏳ Holds back scripts while the main frame is loading and replays them once it is ready.
+	 */
+	@Data
+	public static class Queue {
+
+		public static final int DEFAULT_CAPACITY = 256;
+
+		private boolean enabled = true;
+		private int capacity = DEFAULT_CAPACITY;
+		private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+	}
+
+	/**
+	 * 🚧 Decides which scripts are discarded when the queue is full.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Discards the oldest queued script.
+		 */
+		DROP_OLDEST,
+		/**
+		 * Replaces queued scripts that share the coalescing key of a new script and only discards the oldest script if
+		 * the queue is still full.
+		 */
+		COALESCE
+	}
+
+	/**
+	 * 📦 Buffers scripts and sends them as one concatenated script per flush interval.
+	 */
+	@Data
+	public static class Batching {
+
+		public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(16);
+
+		private boolean enabled;
+		private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+	}
+
+	/**
+	 * 🔁 Limits for JavaScript evaluations waiting for their result.
+	 */
+	@Data
+	public static class Evaluation {
+
+		public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+		public static final int DEFAULT_MAX_PENDING_CALLS = 256;
+
+		private Duration timeout = DEFAULT_TIMEOUT;
+		private int maxPendingCalls = DEFAULT_MAX_PENDING_CALLS;
+	}
+}
@@ -13,4 +13,26 @@ public interface JavaScriptExecutor {
 	 * @param code the JavaScript code to be executed
 	 */
 	void execute(String code);
+
+	/**
+	 * Executes the provided JavaScript code within the browser. Executors that buffer scripts may drop a pending script
+	 * when a newer one with the same coalescing key arrives, so only the latest update is sent.
+	 *
+	 * @param coalescingKey key identifying updates that supersede each other
+	 * @param code          the JavaScript code to be executed
+	 */
+	default void execute(String coalescingKey, String code) {
+		execute(code);
+	}
+
+	/**
+	 * Executes a script whose caller waits for its result, e.g. an evaluation of the
+	 * {@link JavaScriptEvaluator}. Executors that hold scripts back, e.g. while the window is hidden, must not delay it
+	 * longer than necessary. Decorating executors forward it to their delegate's {@code executeEvaluation}.
+	 *
+	 * @param code the JavaScript code to be executed
+	 */
+	default void executeEvaluation(String code) {
+		execute(code);
+	}
 }
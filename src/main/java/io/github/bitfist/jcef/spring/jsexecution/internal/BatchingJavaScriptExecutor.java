@@ -0,0 +1,107 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📦 {@link JavaScriptExecutor} that buffers scripts and flushes them to its delegate as one concatenated script at a
+ * fixed cadence, by default once per animation frame. Scripts sharing a coalescing key replace each other while
+ * pending, so bursts of superseded updates collapse into the latest one.
+ */
+@Slf4j
+class BatchingJavaScriptExecutor implements JavaScriptExecutor, AutoCloseable {
+
+	private final JavaScriptExecutor delegate;
+	private final ScheduledExecutorService scheduler;
+	private final CoalescingQueue<String> pending = new CoalescingQueue<>();
+	// Guarded by pending, whether the pending batch holds an evaluation
+	private boolean evaluationPending;
+
+	BatchingJavaScriptExecutor(JavaScriptExecutor delegate, Duration flushInterval) {
+		this.delegate = delegate;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			var thread = new Thread(runnable, "jcef-javascript-batching");
+			thread.setDaemon(true);
+			return thread;
+		});
+		var intervalNanos = Math.max(1, flushInterval.toNanos());
+		scheduler.scheduleAtFixedRate(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void execute(String code) {
+		synchronized (pending) {
+			pending.add(code);
+		}
+	}
+
+	@Override
+	public void execute(String coalescingKey, String code) {
+		synchronized (pending) {
+			pending.add(coalescingKey, code);
+		}
+	}
+
+	/**
+	 * 🔁 Batches the evaluation like any other script, the batch holding it is sent as evaluation.
+	 */
+	@Override
+	public void executeEvaluation(String code) {
+		synchronized (pending) {
+			pending.add(code);
+			evaluationPending = true;
+		}
+	}
+
+	/**
+	 * 🚀 Sends all pending scripts to the delegate as a single script.
+	 */
+	void flush() {
+		List<String> scripts;
+		boolean evaluation;
+		synchronized (pending) {
+			if (pending.isEmpty()) {
+				return;
+			}
+			scripts = pending.drain();
+			evaluation = evaluationPending;
+			evaluationPending = false;
+		}
+		try {
+			if (evaluation) {
+				delegate.executeEvaluation(concatenate(scripts));
+			} else {
+				delegate.execute(concatenate(scripts));
+			}
+		} catch (RuntimeException exception) {
+			// Never let an exception escape, it would cancel all further flushes
+			log.error("Failed to execute {} batched scripts", scripts.size(), exception);
+		}
+	}
+
+	/**
+	 * Joins the scripts so that a runtime error in one of them does not prevent the others from running.
+	 */
+	static String concatenate(List<String> scripts) {
+		if (scripts.size() == 1) {
+			return scripts.getFirst();
+		}
+		var buffer = new StringBuilder();
+		for (String script : scripts) {
+			buffer.append("try {\n").append(script).append("\n} catch (e) { console.error(e); }\n");
+		}
+		return buffer.toString();
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+		flush();
+	}
+}
@@ -0,0 +1,71 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 🗂 Insertion ordered queue of scripts in which scripts sharing a coalescing key replace each other.
+ * <p>
+ * A replacing script is moved to the end, so the latest update keeps its position relative to the scripts queued after
+ * the superseded one. Not thread-safe, its owner synchronizes access.
+ */
+final class CoalescingQueue<T> {
+
+	// Unkeyed scripts are stored under a unique object key, keyed scripts under their coalescing key
+	private final Map<Object, T> entries = new LinkedHashMap<>();
+
+	void add(T script) {
+		entries.put(new Object(), script);
+	}
+
+	/**
+	 * ➕ Adds the script, replacing a queued script with the same coalescing key.
+	 */
+	void add(String coalescingKey, T script) {
+		entries.remove(coalescingKey);
+		entries.put(coalescingKey, script);
+	}
+
+	boolean contains(String coalescingKey) {
+		return entries.containsKey(coalescingKey);
+	}
+
+	/**
+	 * ⬅️ Removes and returns the oldest script, or {@code null} if the queue is empty.
+	 */
+	@Nullable T poll() {
+		var iterator = entries.values().iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		var script = iterator.next();
+		iterator.remove();
+		return script;
+	}
+
+	/**
+	 * 🚰 Removes and returns all scripts in order.
+	 */
+	List<T> drain() {
+		var scripts = new ArrayList<>(entries.values());
+		entries.clear();
+		return scripts;
+	}
+
+	boolean anyMatch(Predicate<? super T> predicate) {
+		return entries.values().stream().anyMatch(predicate);
+	}
+
+	boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	int size() {
+		return entries.size();
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluationException;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluator;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.github.bitfist.jcef.spring.jsexecution.internal.JavaScriptResultRouterHandler.RESULT_QUERY_FUNCTION;
+
+/**
+ * Default implementation of the {@link JavaScriptEvaluator} interface.
+ * Wraps the code so its result is posted back through a dedicated message router with a correlation ID.
+ */
+@RequiredArgsConstructor
+class DefaultJavaScriptEvaluator implements JavaScriptEvaluator {
+
+	private final JavaScriptExecutor executor;
+	private final PendingJavaScriptCalls pendingCalls;
+
+	@Override
+	public <T> CompletableFuture<T> evaluate(String code, TypeReference<T> resultType) {
+		var future = new CompletableFuture<T>();
+		String id;
+		try {
+			id = pendingCalls.register(future, resultType);
+		} catch (JavaScriptEvaluationException exception) {
+			return CompletableFuture.failedFuture(exception);
+		}
+		var script = wrap(id, code);
+		// The timeout is already running, so the evaluation must not wait for the window to be shown
+		executor.executeEvaluation(script);
+		return future;
+	}
+
+	/**
+	 * Wraps the code into a function whose (awaited) result or error is posted back with the given correlation ID.
+	 */
+	static String wrap(String id, String code) {
+		return "(function () {\n" +
+				"    var id = '" + id + "';\n" +
+				"    var post = function (message) {\n" +
+				"        window." + RESULT_QUERY_FUNCTION + "({request: JSON.stringify(message)});\n" +
+				"    };\n" +
+				"    var fail = function (e) {\n" +
+				"        post({id: id, error: String(e && e.message ? e.message : e)});\n" +
+				"    };\n" +
+				"    try {\n" +
+				"        Promise.resolve((function () {\n" +
+				code + "\n" +
+				"        })()).then(function (value) {\n" +
+				"            try {\n" +
+				"                post({id: id, value: value === undefined ? null : value});\n" +
+				"            } catch (e) {\n" +
+				"                fail(e);\n" +
+				"            }\n" +
+				"        }, fail);\n" +
+				"    } catch (e) {\n" +
+				"        fail(e);\n" +
+				"    }\n" +
+				"})();";
+	}
+}
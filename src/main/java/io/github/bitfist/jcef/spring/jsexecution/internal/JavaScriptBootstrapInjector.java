@@ -0,0 +1,67 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptBootstrap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandlerAdapter;
+import org.cef.network.CefRequest;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.stream.Collectors;
+
+/**
+ * 💉 Injects the scripts of all {@link JavaScriptBootstrap} beans into the main frame whenever a page starts loading.
+ * <p>
+ * The bootstrap beans depend on the browser, so they are only resolved once all singletons exist. A page that started
+ * loading before that receives the script as soon as it is available.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class JavaScriptBootstrapInjector extends CefLoadHandlerAdapter implements SmartInitializingSingleton {
+
+	private final ObjectProvider<JavaScriptBootstrap> bootstraps;
+
+	private @Nullable String script;
+	private @Nullable CefBrowser loadingBrowser;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		CefBrowser browser;
+		synchronized (this) {
+			script = bootstraps.orderedStream()
+					.map(JavaScriptBootstrap::getBootstrapScript)
+					.collect(Collectors.joining("\n"));
+			browser = loadingBrowser;
+		}
+		if (browser != null) {
+			inject(browser.getMainFrame());
+		}
+	}
+
+	@Override
+	public void onLoadStart(CefBrowser browser, CefFrame frame, CefRequest.TransitionType transitionType) {
+		if (!frame.isMain()) {
+			return;
+		}
+		synchronized (this) {
+			if (script == null) {
+				loadingBrowser = browser;
+				return;
+			}
+		}
+		inject(frame);
+	}
+
+	private void inject(CefFrame frame) {
+		var bootstrapScript = script;
+		if (bootstrapScript == null || bootstrapScript.isEmpty()) {
+			return;
+		}
+		log.debug("Injecting JavaScript bootstrap into {}", frame.getURL());
+		frame.executeJavaScript(bootstrapScript, frame.getURL(), 0);
+	}
+}
@@ -1,6 +1,7 @@
 package io.github.bitfist.jcef.spring.jsexecution.internal;
 
 import io.github.bitfist.jcef.spring.jsexecution.JavaScriptCode;
+import org.jspecify.annotations.Nullable;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
@@ -14,7 +15,9 @@ import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -22,10 +25,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Generates an implementation for every interface with {@link JavaScriptCode} methods.
+ * <p>
+ * Snippets are registered once per page as parameterized functions on a private global namespace via the generated
+ * {@link io.github.bitfist.jcef.spring.jsexecution.JavaScriptBootstrap}, so each call only sends
+ * {@code namespace.fnN(<json args>)}. Snippets that use a placeholder inside a string literal cannot be turned into a
+ * function and keep sending their full code with the placeholders replaced.
+ */
 @SupportedAnnotationTypes("io.github.bitfist.jcef.spring.jsexecution.JavaScriptCode")
 public class JavaScriptCodeAnnotationProcessor extends AbstractProcessor {
 
+	static final String FUNCTION_NAMESPACE = "window.__jcefFunctions";
+
 	private Filer filer;
 	private Messager messager;
 	private int generatedMethods = 0;
@@ -62,15 +78,22 @@ public class JavaScriptCodeAnnotationProcessor extends AbstractProcessor {
 
 			var buffer = new StringBuilder();
 
-			generateClassCode(buffer, pkg, className, interfaceName);
 			for (ExecutableElement method : methods) {
-				if (method.getReturnType().getKind() != TypeKind.VOID) {
-					messager.printMessage(Diagnostic.Kind.ERROR, "JavaScriptCode annotation is only supported on void methods.");
+				if (method.getReturnType().getKind() != TypeKind.VOID && getFutureResultType(method) == null) {
+					messager.printMessage(Diagnostic.Kind.ERROR, "JavaScriptCode annotation is only supported on void methods and methods returning CompletableFuture<T>.", method);
 					return false;
 				}
-				generateMethodCode(method, buffer);
 			}
-			finishClass(buffer);
+			var evaluating = methods.stream().anyMatch(method -> getFutureResultType(method) != null);
+			var registering = methods.stream().anyMatch(JavaScriptCodeAnnotationProcessor::isRegisteredAsFunction);
+			var namespace = FUNCTION_NAMESPACE + "['" + interfaceType.getQualifiedName() + "']";
+
+			generateClassCode(buffer, pkg, className, interfaceName, namespace, evaluating, registering);
+			var functions = new ArrayList<String>();
+			for (ExecutableElement method : methods) {
+				generateMethodCode(method, buffer, functions);
+			}
+			finishClass(buffer, functions);
 
 			try {
 				var file = filer.createSourceFile(pkg + "." + className);
@@ -84,42 +107,138 @@ public class JavaScriptCodeAnnotationProcessor extends AbstractProcessor {
 		return true;
 	}
 
-	private static void generateClassCode(StringBuilder buffer, String pkg, String className, String interfaceName) {
+	/**
+	 * Returns the type argument {@code T} if the method returns {@code CompletableFuture<T>}, otherwise {@code null}.
+	 */
+	private static @Nullable TypeMirror getFutureResultType(ExecutableElement method) {
+		if (!(method.getReturnType() instanceof DeclaredType returnType)) {
+			return null;
+		}
+		var returnElement = (TypeElement) returnType.asElement();
+		if (!returnElement.getQualifiedName().contentEquals(CompletableFuture.class.getName()) || returnType.getTypeArguments().size() != 1) {
+			return null;
+		}
+		var resultType = returnType.getTypeArguments().getFirst();
+		return resultType.getKind() == TypeKind.WILDCARD ? null : resultType;
+	}
+
+	/**
+	 * A snippet can be registered as a function unless one of its placeholders is used inside a string literal, where
+	 * it has always been replaced textually.
+	 */
+	private static boolean isRegisteredAsFunction(ExecutableElement method) {
+		var code = method.getAnnotation(JavaScriptCode.class).value();
+		var stringRanges = findStringLiteralRanges(code);
+		for (VariableElement parameter : method.getParameters()) {
+			var matcher = placeholderPattern(parameter).matcher(code);
+			while (matcher.find()) {
+				for (int[] range : stringRanges) {
+					if (matcher.start() > range[0] && matcher.start() < range[1]) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the [start, end] index pairs of all quoted string and template literals in the code.
+	 */
+	static List<int[]> findStringLiteralRanges(String code) {
+		var ranges = new ArrayList<int[]>();
+		var quote = (char) 0;
+		var start = -1;
+		for (var i = 0; i < code.length(); i++) {
+			var c = code.charAt(i);
+			if (quote == 0) {
+				if (c == '\'' || c == '"' || c == '`') {
+					quote = c;
+					start = i;
+				}
+			} else if (c == '\\') {
+				i++;
+			} else if (c == quote) {
+				ranges.add(new int[]{start, i});
+				quote = 0;
+			}
+		}
+		if (quote != 0) {
+			ranges.add(new int[]{start, code.length()});
+		}
+		return ranges;
+	}
+
+	private static Pattern placeholderPattern(VariableElement parameter) {
+		return Pattern.compile(":" + Pattern.quote(parameter.getSimpleName().toString()) + "(?![\\w$])");
+	}
+
+	private static void generateClassCode(StringBuilder buffer, String pkg, String className, String interfaceName, String namespace, boolean evaluating, boolean registering) {
 		buffer.append("package ").append(pkg).append(";\n\n");
 
 		buffer.append("import com.fasterxml.jackson.databind.ObjectMapper;\n");
+		if (registering) {
+			buffer.append("import io.github.bitfist.jcef.spring.jsexecution.JavaScriptBootstrap;\n");
+		}
 		buffer.append("import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;\n\n");
 
 		buffer.append("import java.util.logging.Logger;\n\n");
 
 		buffer.append("@org.springframework.stereotype.Component\n");
-		buffer.append("class ").append(className).append(" implements ").append(interfaceName).append(" {\n\n");
+		buffer.append("class ").append(className).append(" implements ").append(interfaceName);
+		if (registering) {
+			buffer.append(", JavaScriptBootstrap");
+		}
+		buffer.append(" {\n\n");
 
 		buffer.append("    private static final Logger log = Logger.getLogger(").append(className).append(".class.getName());\n\n");
 
+		if (registering) {
+			buffer.append("    private static final String NAMESPACE = \"").append(namespace).append("\";\n\n");
+		}
+
 		buffer.append("    private final JavaScriptExecutor executor;\n");
-		buffer.append("    private final ObjectMapper objectMapper;\n\n");
+		buffer.append("    private final ObjectMapper objectMapper;\n");
+		if (evaluating) {
+			buffer.append("    private final io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluator evaluator;\n");
+		}
+		buffer.append("\n");
 
 		buffer.append("    public ").append(className)
-				.append("(JavaScriptExecutor executor, @org.springframework.beans.factory.annotation.Qualifier(\"cefBrowserObjectMapper\") ObjectMapper objectMapper) {\n");
+				.append("(JavaScriptExecutor executor, @org.springframework.beans.factory.annotation.Qualifier(\"cefBrowserObjectMapper\") ObjectMapper objectMapper");
+		if (evaluating) {
+			buffer.append(", io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluator evaluator");
+		}
+		buffer.append(") {\n");
 		buffer.append("        this.executor = executor;\n");
 		buffer.append("        this.objectMapper = objectMapper;\n");
+		if (evaluating) {
+			buffer.append("        this.evaluator = evaluator;\n");
+		}
 		buffer.append("    }\n\n");
 	}
 
-	private void generateMethodCode(ExecutableElement method, StringBuilder buffer) {
+	private void generateMethodCode(ExecutableElement method, StringBuilder buffer, List<String> functions) {
 		var methodName = method.getSimpleName().toString();
-		var code = method.getAnnotation(JavaScriptCode.class).value().replace("\"", "\\\"");
+		var code = method.getAnnotation(JavaScriptCode.class).value();
 		var codeField = methodName.toUpperCase() + "_CODE_" + generatedMethods;
 		generatedMethods++;
+		List<? extends VariableElement> parameters = method.getParameters();
+		var registered = isRegisteredAsFunction(method);
 
+		if (registered) {
+			// Placeholders become the parameters of the registered function
+			for (VariableElement parameter : parameters) {
+				code = placeholderPattern(parameter).matcher(code)
+						.replaceAll(Matcher.quoteReplacement(functionParameterName(parameter)));
+			}
+		}
 		buffer.append("    private static final String ").append(codeField)
-				.append(" = \"\"\"\n    ").append(code).append("\n    \"\"\";\n\n");
+				.append(" = \"\"\"\n    ").append(escapeForTextBlock(code)).append("\n    \"\"\";\n\n");
 
 		// method signature
 		buffer.append("    @Override\n");
-		buffer.append("    public void ").append(methodName).append("(");
-		List<? extends VariableElement> parameters = method.getParameters();
+		buffer.append("    public ").append(method.getReturnType().toString()).append(" ").append(methodName).append("(");
 		for (var i = 0; i < parameters.size(); i++) {
 			var p = parameters.get(i);
 			buffer.append(p.asType().toString()).append(" ").append(p.getSimpleName().toString());
@@ -129,6 +248,68 @@ public class JavaScriptCodeAnnotationProcessor extends AbstractProcessor {
 		}
 		buffer.append(") {\n");
 
+		if (registered) {
+			var functionName = "fn" + functions.size();
+			functions.add(generateFunction(functionName, codeField, parameters));
+			generateFunctionCall(buffer, functionName, parameters);
+		} else {
+			generateInlineCode(buffer, codeField, parameters);
+		}
+
+		buffer.append("        log.fine(\"Executing code\\n\" + code);\n");
+		var resultType = getFutureResultType(method);
+		if (resultType == null) {
+			buffer.append("        executor.execute(code);\n");
+		} else {
+			// Evaluated code is a function body, so the call has to return the function's result
+			buffer.append("        return evaluator.evaluate(").append(registered ? "\"return \" + code" : "code")
+					.append(", new com.fasterxml.jackson.core.type.TypeReference<")
+					.append(resultType.toString()).append(">() {});\n");
+		}
+		buffer.append("    }\n\n");
+	}
+
+	private static String generateFunction(String functionName, String codeField, List<? extends VariableElement> parameters) {
+		var function = new StringBuilder();
+		function.append("\"").append(functionName).append(": function (");
+		for (var i = 0; i < parameters.size(); i++) {
+			function.append(functionParameterName(parameters.get(i)));
+			if (i < parameters.size() - 1) {
+				function.append(", ");
+			}
+		}
+		function.append(") {\\n\" + ").append(codeField).append(" + \"\\n},\\n\"");
+		return function.toString();
+	}
+
+	private static void generateFunctionCall(StringBuilder buffer, String functionName, List<? extends VariableElement> parameters) {
+		if (parameters.isEmpty()) {
+			buffer.append("        String code = NAMESPACE + \".").append(functionName).append("();\";\n");
+			return;
+		}
+		buffer.append("        String code;\n");
+		buffer.append("        try {\n");
+		buffer.append("            code = NAMESPACE + \".").append(functionName).append("(\"");
+		for (var i = 0; i < parameters.size(); i++) {
+			var parameter = parameters.get(i);
+			var parameterName = parameter.getSimpleName().toString();
+			var kind = parameter.asType().getKind();
+			if (kind.isPrimitive() && kind != TypeKind.CHAR) {
+				buffer.append(" + String.valueOf(").append(parameterName).append(")");
+			} else {
+				buffer.append(" + objectMapper.writeValueAsString(").append(parameterName).append(")");
+			}
+			if (i < parameters.size() - 1) {
+				buffer.append(" + \", \"");
+			}
+		}
+		buffer.append(" + \");\";\n");
+		buffer.append("        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {\n");
+		buffer.append("            throw new RuntimeException(e);\n");
+		buffer.append("        }\n");
+	}
+
+	private static void generateInlineCode(StringBuilder buffer, String codeField, List<? extends VariableElement> parameters) {
 		buffer.append("        String code = ").append(codeField).append(";\n");
 		if (!parameters.isEmpty()) {
 			buffer.append("        // region Variable replacements\n");
@@ -152,15 +333,34 @@ public class JavaScriptCodeAnnotationProcessor extends AbstractProcessor {
 			buffer.append("        // endregion\n");
 		}
 		buffer.append("        code = code.trim();\n");
-		buffer.append("        log.fine(\"Executing code\\n\" + code);\n");
-		buffer.append("        executor.execute(code);\n");
-		if (method.getReturnType().getKind() != TypeKind.VOID) {
-			buffer.append("        return null;\n");
-		}
-		buffer.append("    }\n\n");
 	}
 
-	private static void finishClass(StringBuilder buffer) {
+	/**
+	 * Prefixes parameter names, so Java names that are reserved in JavaScript (e.g. {@code function}) stay valid.
+	 */
+	private static String functionParameterName(VariableElement parameter) {
+		return "$" + parameter.getSimpleName();
+	}
+
+	private static String escapeForTextBlock(String code) {
+		return code.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private static void finishClass(StringBuilder buffer, List<String> functions) {
+		if (!functions.isEmpty()) {
+			buffer.append("    private static final String BOOTSTRAP = \"")
+					.append(FUNCTION_NAMESPACE).append(" = ").append(FUNCTION_NAMESPACE).append(" || {};\\n\"\n");
+			buffer.append("            + NAMESPACE + \" = {\\n\"\n");
+			for (String function : functions) {
+				buffer.append("            + ").append(function).append("\n");
+			}
+			buffer.append("            + \"};\";\n\n");
+
+			buffer.append("    @Override\n");
+			buffer.append("    public String getBootstrapScript() {\n");
+			buffer.append("        return BOOTSTRAP;\n");
+			buffer.append("    }\n\n");
+		}
 		buffer.append("}\n");
 	}
-}
\ No newline at end of file
+}
@@ -1,17 +1,82 @@
 package io.github.bitfist.jcef.spring.jsexecution.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.bitfist.jcef.spring.browser.Browser;
+import io.github.bitfist.jcef.spring.browser.CefClientCustomizer;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptBootstrap;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluator;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutionProperties;
 import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefMessageRouter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import static io.github.bitfist.jcef.spring.jsexecution.internal.JavaScriptResultRouterHandler.RESULT_CANCEL_FUNCTION;
+import static io.github.bitfist.jcef.spring.jsexecution.internal.JavaScriptResultRouterHandler.RESULT_QUERY_FUNCTION;
+
 @AutoConfiguration
+@EnableConfigurationProperties(JavaScriptExecutionProperties.class)
 class JavaScriptExecutionAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	JavaScriptExecutor javaScriptExecutor(Browser browser) {
-		return new DefaultJavaScriptExecutor(browser);
+	JavaScriptExecutor javaScriptExecutor(Browser browser, PageLoadState pageLoadState, JavaScriptExecutionProperties properties) {
+		JavaScriptExecutor executor = new DefaultJavaScriptExecutor(browser);
+		var batching = properties.getBatching();
+		if (batching.isEnabled()) {
+			executor = new BatchingJavaScriptExecutor(executor, batching.getFlushInterval());
+		}
+		// Outermost, so queued scripts keep their coalescing keys until the page is ready
+		var queue = properties.getQueue();
+		if (queue.isEnabled()) {
+			executor = new LifecycleAwareJavaScriptExecutor(executor, pageLoadState, queue.getCapacity(), queue.getOverflowPolicy());
+		}
+		return executor;
+	}
+
+	@Bean
+	PageLoadState javaScriptPageLoadState(ObjectProvider<CefBrowser> cefBrowser) {
+		// Resolved lazily, the load state is wired into the client creating the browser
+		return new PageLoadState(browser -> browser == cefBrowser.getIfAvailable());
 	}
+
+	// region Bootstrap
+
+	@Bean
+	JavaScriptBootstrapInjector javaScriptBootstrapInjector(ObjectProvider<JavaScriptBootstrap> bootstraps) {
+		return new JavaScriptBootstrapInjector(bootstraps);
+	}
+
+	// endregion
+
+	// region Evaluation
+
+	@Bean
+	PendingJavaScriptCalls pendingJavaScriptCalls(@Qualifier("cefBrowserObjectMapper") ObjectMapper objectMapper, JavaScriptExecutionProperties properties) {
+		var evaluation = properties.getEvaluation();
+		return new PendingJavaScriptCalls(objectMapper, evaluation.getTimeout(), evaluation.getMaxPendingCalls());
+	}
+
+	@Bean
+	CefClientCustomizer javaScriptResultRouterCustomizer(PendingJavaScriptCalls pendingCalls) {
+		return client -> {
+			// Dedicated router, so results never reach the application's CefQueryHandler
+			var messageRouter = CefMessageRouter.create(new CefMessageRouter.CefMessageRouterConfig(RESULT_QUERY_FUNCTION, RESULT_CANCEL_FUNCTION));
+			messageRouter.addHandler(new JavaScriptResultRouterHandler(pendingCalls), true);
+			client.addMessageRouter(messageRouter);
+		};
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	JavaScriptEvaluator javaScriptEvaluator(JavaScriptExecutor executor, PendingJavaScriptCalls pendingCalls) {
+		return new DefaultJavaScriptEvaluator(executor, pendingCalls);
+	}
+
+	// endregion
 }
@@ -0,0 +1,34 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefQueryCallback;
+import org.cef.handler.CefMessageRouterHandlerAdapter;
+
+/**
+ * Receives results of JavaScript evaluations, posted by the browser via {@value #RESULT_QUERY_FUNCTION}, and hands
+ * them to the {@link PendingJavaScriptCalls}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class JavaScriptResultRouterHandler extends CefMessageRouterHandlerAdapter {
+
+	static final String RESULT_QUERY_FUNCTION = "jcefJavaScriptResult";
+	static final String RESULT_CANCEL_FUNCTION = "jcefJavaScriptResultCancel";
+
+	private final PendingJavaScriptCalls pendingCalls;
+
+	@Override
+	public boolean onQuery(CefBrowser browser, CefFrame frame, long queryId, String request, boolean persistent, CefQueryCallback callback) {
+		try {
+			pendingCalls.complete(request);
+			callback.success("");
+		} catch (RuntimeException exception) {
+			log.error("Failed to process JavaScript result: {}", exception.getMessage(), exception);
+			callback.failure(400, exception.getMessage());
+		}
+		return true;
+	}
+}
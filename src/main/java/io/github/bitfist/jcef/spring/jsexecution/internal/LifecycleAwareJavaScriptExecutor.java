@@ -0,0 +1,148 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserVisibilityChangedEvent;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutionProperties.OverflowPolicy;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.event.EventListener;
+
+/**
+ * ⏳ {@link JavaScriptExecutor} that holds back scripts while the main frame is loading, where the browser would
+ * silently discard them, and replays them in order once the frame is ready.
+ * <p>
+ * The queue is bounded, so a page that never finishes loading cannot grow it indefinitely. What is discarded on
+ * overflow is decided by the {@link OverflowPolicy}.
+ * <p>
+ * While the main window is hidden or minimized, scripts are held back as well and keyed scripts always coalesce, so
+ * only the latest update per key is sent once the window is visible again. Evaluations are not held back while hidden,
+ * since their caller waits for the result; they are sent together with the scripts held back before them.
+ */
+@Slf4j
+class LifecycleAwareJavaScriptExecutor implements JavaScriptExecutor, AutoCloseable {
+
+	private final JavaScriptExecutor delegate;
+	private final PageLoadState pageLoadState;
+	private final int capacity;
+	private final OverflowPolicy overflowPolicy;
+	private final Runnable replay = this::replay;
+	private final CoalescingQueue<Script> queue = new CoalescingQueue<>();
+	private boolean hidden;
+
+	LifecycleAwareJavaScriptExecutor(JavaScriptExecutor delegate, PageLoadState pageLoadState, int capacity, OverflowPolicy overflowPolicy) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("The queue capacity must be positive");
+		}
+		this.delegate = delegate;
+		this.pageLoadState = pageLoadState;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		pageLoadState.addReadyListener(replay);
+	}
+
+	@Override
+	public void execute(String code) {
+		submit(null, code, false);
+	}
+
+	@Override
+	public void execute(String coalescingKey, String code) {
+		submit(coalescingKey, code, false);
+	}
+
+	/**
+	 * 🔁 Executes an evaluation, which is only held back while the main frame is loading.
+	 */
+	@Override
+	public void executeEvaluation(String code) {
+		submit(null, code, true);
+	}
+
+	private synchronized void submit(@Nullable String coalescingKey, String code, boolean evaluation) {
+		var script = new Script(coalescingKey, code, evaluation);
+		if (canSend(evaluation) && queue.isEmpty()) {
+			send(script);
+			return;
+		}
+		boolean coalesce = coalescingKey != null && (overflowPolicy == OverflowPolicy.COALESCE || hidden);
+		if (queue.size() >= capacity && !(coalesce && queue.contains(coalescingKey))) {
+			queue.poll();
+			log.warn("JavaScript queue is full ({} scripts), dropped the oldest script", capacity);
+		}
+		if (coalesce) {
+			queue.add(coalescingKey, script);
+		} else {
+			queue.add(script);
+		}
+		if (evaluation && canSend(true)) {
+			replay();
+		}
+	}
+
+	/**
+	 * 👁 Holds back scripts while the main window is hidden and replays them once it is shown again.
+	 */
+	@EventListener
+	void onVisibilityChanged(BrowserVisibilityChangedEvent event) {
+		synchronized (this) {
+			hidden = !event.visible();
+		}
+		if (event.visible()) {
+			replay();
+		}
+	}
+
+	/**
+	 * 🔁 Sends all queued scripts in order, called once the main frame finished loading. While the window is hidden,
+	 * they are only sent if an evaluation waits among them.
+	 */
+	synchronized void replay() {
+		var evaluationPending = queue.anyMatch(Script::evaluation);
+		if (queue.isEmpty() || (hidden && !evaluationPending)) {
+			return;
+		}
+		log.debug("Replaying {} queued scripts", queue.size());
+		Script script;
+		while (canSend(evaluationPending) && (script = queue.poll()) != null) {
+			try {
+				send(script);
+			} catch (RuntimeException exception) {
+				log.error("Failed to replay queued script", exception);
+			}
+		}
+	}
+
+	synchronized int size() {
+		return queue.size();
+	}
+
+	private boolean canSend(boolean evaluation) {
+		return pageLoadState.isReady() && (!hidden || evaluation);
+	}
+
+	private void send(Script script) {
+		if (script.evaluation()) {
+			delegate.executeEvaluation(script.code());
+		} else if (script.coalescingKey() == null) {
+			delegate.execute(script.code());
+		} else {
+			delegate.execute(script.coalescingKey(), script.code());
+		}
+	}
+
+	@Override
+	public void close() throws Exception {
+		pageLoadState.removeReadyListener(replay);
+		synchronized (this) {
+			if (!queue.isEmpty()) {
+				log.debug("Discarding {} queued scripts", queue.drain().size());
+			}
+		}
+		if (delegate instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	private record Script(@Nullable String coalescingKey, String code, boolean evaluation) {
+	}
+}
@@ -0,0 +1,73 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandlerAdapter;
+import org.cef.network.CefRequest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * 🚦 Tracks whether the main frame has finished loading and is able to run scripts.
+ * <p>
+ * Kept separate from the executors, as load handlers are wired into the {@code CefClient} before the browser exists.
+ * Load events of other browsers sharing the client, e.g. of secondary windows, are ignored.
+ */
+@Slf4j
+class PageLoadState extends CefLoadHandlerAdapter {
+
+	private final Predicate<CefBrowser> tracked;
+	private final List<Runnable> readyListeners = new CopyOnWriteArrayList<>();
+	private volatile boolean ready;
+
+	PageLoadState() {
+		this(browser -> true);
+	}
+
+	/**
+	 * @param tracked Selects the browser whose main frame is tracked.
+	 */
+	PageLoadState(Predicate<CefBrowser> tracked) {
+		this.tracked = tracked;
+	}
+
+	boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Registers a listener called every time the main frame finished loading.
+	 */
+	void addReadyListener(Runnable listener) {
+		readyListeners.add(listener);
+	}
+
+	void removeReadyListener(Runnable listener) {
+		readyListeners.remove(listener);
+	}
+
+	@Override
+	public void onLoadStart(CefBrowser browser, CefFrame frame, CefRequest.TransitionType transitionType) {
+		if (frame.isMain() && tracked.test(browser)) {
+			ready = false;
+		}
+	}
+
+	@Override
+	public void onLoadEnd(CefBrowser browser, CefFrame frame, int httpStatusCode) {
+		if (!frame.isMain() || !tracked.test(browser)) {
+			return;
+		}
+		ready = true;
+		for (Runnable listener : readyListeners) {
+			try {
+				listener.run();
+			} catch (RuntimeException exception) {
+				log.error("Page ready listener failed", exception);
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluationException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔁 Bounded table of JavaScript evaluations waiting for their result, correlated by a random ID.
+ * Entries are removed as soon as their future completes, either with a result, an error or a timeout.
+ */
+@Slf4j
+class PendingJavaScriptCalls {
+
+	private final ObjectMapper objectMapper;
+	private final Duration timeout;
+	private final int maxPendingCalls;
+	private final Semaphore permits;
+	private final Map<String, PendingCall> calls = new ConcurrentHashMap<>();
+
+	PendingJavaScriptCalls(ObjectMapper objectMapper, Duration timeout, int maxPendingCalls) {
+		this.objectMapper = objectMapper;
+		this.timeout = timeout;
+		this.maxPendingCalls = maxPendingCalls;
+		this.permits = new Semaphore(maxPendingCalls);
+	}
+
+	/**
+	 * Registers a future awaiting a result of the given type.
+	 *
+	 * @return the correlation ID the browser has to send the result with
+	 * @throws JavaScriptEvaluationException if the table is full
+	 */
+	<T> String register(CompletableFuture<T> future, TypeReference<T> resultType) {
+		if (!permits.tryAcquire()) {
+			throw new JavaScriptEvaluationException("Too many pending JavaScript calls (maximum " + maxPendingCalls + ")");
+		}
+		var id = UUID.randomUUID().toString();
+		@SuppressWarnings("unchecked")
+		var untypedFuture = (CompletableFuture<Object>) future;
+		calls.put(id, new PendingCall(untypedFuture, objectMapper.getTypeFactory().constructType(resultType)));
+		future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+				.whenComplete((result, throwable) -> {
+					if (calls.remove(id) != null) {
+						permits.release();
+					}
+				});
+		return id;
+	}
+
+	/**
+	 * Completes the pending call referenced by a result message posted from the browser.
+	 *
+	 * @param message JSON object with an {@code id} and either a {@code value} or an {@code error}
+	 */
+	void complete(String message) {
+		try {
+			var node = objectMapper.readTree(message);
+			var id = node.path("id").asText();
+			var call = calls.get(id);
+			if (call == null) {
+				log.warn("Received result for unknown or expired JavaScript call {}", id);
+				return;
+			}
+			if (node.hasNonNull("error")) {
+				call.future().completeExceptionally(new JavaScriptEvaluationException(node.get("error").asText()));
+				return;
+			}
+			try {
+				call.future().complete(objectMapper.convertValue(node.path("value"), call.resultType()));
+			} catch (IllegalArgumentException exception) {
+				call.future().completeExceptionally(new JavaScriptEvaluationException("Failed to decode result of JavaScript call " + id, exception));
+			}
+		} catch (JsonProcessingException exception) {
+			throw new JavaScriptEvaluationException("Failed to parse JavaScript result message", exception);
+		}
+	}
+
+	/**
+	 * Number of occupied slots; a completed call only frees its slot once its cleanup ran, which happens on the thread
+	 * completing it, e.g. the timeout thread.
+	 */
+	int size() {
+		return maxPendingCalls - permits.availablePermits();
+	}
+
+	private record PendingCall(CompletableFuture<Object> future, JavaType resultType) {
+	}
+}
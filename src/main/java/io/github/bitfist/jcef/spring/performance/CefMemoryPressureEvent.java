@@ -0,0 +1,14 @@
+package io.github.bitfist.jcef.spring.performance;
+
+import java.util.List;
+
+/**
+ * 📣 Published once the CEF subprocesses exceed the configured memory threshold.
+ * <p>
+ * It is published again only after the memory dropped below the threshold in between.
+ *
+ * @param processes     Usage of every CEF subprocess at the time of the sample.
+ * @param residentBytes Resident memory of all CEF subprocesses in bytes.
+ */
+public record CefMemoryPressureEvent(List<CefProcessUsage> processes, long residentBytes) {
+}
@@ -0,0 +1,14 @@
+package io.github.bitfist.jcef.spring.performance;
+
+import java.time.Duration;
+
+/**
+ * 📊 Resource usage of a CEF subprocess.
+ *
+ * @param pid           Process id.
+ * @param type          Chromium process type, e.g. {@code renderer} or {@code gpu-process}.
+ * @param residentBytes Resident memory in bytes, {@code -1} if unknown on this platform.
+ * @param cpuTime       CPU time consumed so far, {@link Duration#ZERO} if unknown.
+ */
+public record CefProcessUsage(long pid, String type, long residentBytes, Duration cpuTime) {
+}
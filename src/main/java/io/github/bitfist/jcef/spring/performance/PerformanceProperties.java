@@ -0,0 +1,101 @@
+package io.github.bitfist.jcef.spring.performance;
+
+import lombok.Data;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * ⚙️ Configuration properties for the resource usage of the Chromium runtime.
+ * <p>
+ * Binds to properties prefixed with 'jcef.performance'.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcef.performance")
+public class PerformanceProperties {
+
+	/**
+	 * Set of Chromium switches to apply, Chromium's defaults are kept if not set.
+	 */
+	private @Nullable Profile profile;
+
+	/**
+	 * JavaScript heap limit of each renderer process, overrides the limit of the profile.
+	 */
+	private @Nullable DataSize maxOldSpaceSize;
+
+	/**
+	 * Maximum number of renderer processes, overrides the limit of the profile.
+	 */
+	private @Nullable Integer rendererProcessLimit;
+
+	private Monitor monitor = new Monitor();
+
+	public enum Profile {
+
+		/**
+		 * 🪶 Smallest footprint: a single renderer process with a limited heap, no GPU process and no background
+		 * services. Suited for software rendered and densely packed virtual desktops.
+		 */
+		LOW_MEMORY,
+
+		/**
+		 * ⚖️ Chromium's defaults without the background services an embedded UI does not need.
+		 */
+		BALANCED,
+
+		/**
+		 * 🚀 Favors rendering speed, using GPU rasterization even on GPUs Chromium would otherwise not use.
+		 */
+		THROUGHPUT
+	}
+
+	@Data
+	public static class Monitor {
+
+		public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+
+		/**
+		 * Samples memory and CPU time of the CEF subprocesses.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Time between two samples.
+		 */
+		private Duration interval = DEFAULT_INTERVAL;
+
+		/**
+		 * Resident memory of all CEF subprocesses above which the actions are taken, never if not set.
+		 */
+		private @Nullable DataSize memoryThreshold;
+
+		/**
+		 * Actions taken once the memory threshold is exceeded.
+		 */
+		private Set<PressureAction> actions = EnumSet.of(PressureAction.NOTIFY);
+	}
+
+	public enum PressureAction {
+
+		/**
+		 * 📣 Publishes a {@link CefMemoryPressureEvent}.
+		 */
+		NOTIFY,
+
+		/**
+		 * 🧹 Clears the HTTP cache of the main browser and signals critical memory pressure to its renderer through the
+		 * DevTools protocol.
+		 */
+		CLEAR_CACHES,
+
+		/**
+		 * 🔄 Reloads the main browser while its window is hidden, releasing everything the page accumulated.
+		 */
+		RELOAD_HIDDEN
+	}
+}
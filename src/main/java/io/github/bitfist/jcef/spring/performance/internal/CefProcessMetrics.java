@@ -0,0 +1,45 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.performance.CefProcessUsage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 📈 Exposes the samples of the {@link CefProcessMonitor} as gauges per process, tagged with pid and process type.
+ * <p>
+ * Rows of exited processes are removed with the next sample.
+ */
+@RequiredArgsConstructor
+class CefProcessMetrics implements MeterBinder {
+
+	private final CefProcessMonitor monitor;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		var residentMemory = MultiGauge.builder("jcef.process.memory.resident")
+				.description("Resident memory of a CEF subprocess")
+				.baseUnit(BaseUnits.BYTES)
+				.register(registry);
+		var cpuTime = MultiGauge.builder("jcef.process.cpu.time")
+				.description("CPU time consumed by a CEF subprocess")
+				.baseUnit("seconds")
+				.register(registry);
+		monitor.addSampleListener(usage -> {
+			residentMemory.register(usage.stream()
+					.filter(process -> process.residentBytes() >= 0)
+					.<MultiGauge.Row<?>>map(process -> MultiGauge.Row.of(tags(process), process.residentBytes()))
+					.toList(), true);
+			cpuTime.register(usage.stream()
+					.<MultiGauge.Row<?>>map(process -> MultiGauge.Row.of(tags(process), process.cpuTime().toNanos() / 1e9))
+					.toList(), true);
+		});
+	}
+
+	private static Tags tags(CefProcessUsage process) {
+		return Tags.of("pid", Long.toString(process.pid()), "type", process.type());
+	}
+}
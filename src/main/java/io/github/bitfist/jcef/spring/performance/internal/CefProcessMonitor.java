@@ -0,0 +1,140 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserVisibilityChangedEvent;
+import io.github.bitfist.jcef.spring.performance.CefMemoryPressureEvent;
+import io.github.bitfist.jcef.spring.performance.CefProcessUsage;
+import io.github.bitfist.jcef.spring.performance.PerformanceProperties.PressureAction;
+import lombok.extern.slf4j.Slf4j;
+import org.cef.browser.CefBrowser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 📊 Periodically samples the CEF subprocesses and takes the configured {@link PressureAction}s once their resident
+ * memory exceeds the threshold.
+ * <p>
+ * Actions are taken once per crossing of the threshold, not on every sample above it.
+ */
+@Slf4j
+class CefProcessMonitor implements AutoCloseable {
+
+	private final ProcessSampler sampler;
+	private final Duration interval;
+	private final @Nullable DataSize memoryThreshold;
+	private final Set<PressureAction> actions;
+	private final ObjectProvider<CefBrowser> cefBrowser;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ScheduledExecutorService scheduler;
+	private final List<Consumer<List<CefProcessUsage>>> sampleListeners = new CopyOnWriteArrayList<>();
+	private volatile List<CefProcessUsage> usage = List.of();
+	private volatile boolean hidden;
+	// Only accessed by the sampling thread
+	private boolean underPressure;
+
+	CefProcessMonitor(
+			ProcessSampler sampler,
+			Duration interval,
+			@Nullable DataSize memoryThreshold,
+			Set<PressureAction> actions,
+			ObjectProvider<CefBrowser> cefBrowser,
+			ApplicationEventPublisher eventPublisher
+	) {
+		this.sampler = sampler;
+		this.interval = interval;
+		this.memoryThreshold = memoryThreshold;
+		this.actions = Set.copyOf(actions);
+		this.cefBrowser = cefBrowser;
+		this.eventPublisher = eventPublisher;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			var thread = new Thread(runnable, "jcef-process-monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	void start() {
+		var millis = Math.max(1, interval.toMillis());
+		scheduler.scheduleWithFixedDelay(this::sample, 0, millis, TimeUnit.MILLISECONDS);
+	}
+
+	@EventListener
+	void onVisibilityChanged(BrowserVisibilityChangedEvent event) {
+		hidden = !event.visible();
+	}
+
+	/**
+	 * 📊 Usage of the CEF subprocesses at the last sample.
+	 */
+	List<CefProcessUsage> getUsage() {
+		return usage;
+	}
+
+	/**
+	 * 👂 Registers a listener called with the usage after every sample.
+	 */
+	void addSampleListener(Consumer<List<CefProcessUsage>> listener) {
+		sampleListeners.add(listener);
+	}
+
+	void sample() {
+		try {
+			var sampled = sampler.sample();
+			usage = sampled;
+			sampleListeners.forEach(listener -> listener.accept(sampled));
+			checkMemory(sampled);
+		} catch (RuntimeException exception) {
+			log.warn("Failed to sample the CEF processes", exception);
+		}
+	}
+
+	private void checkMemory(List<CefProcessUsage> sampled) {
+		if (memoryThreshold == null) {
+			return;
+		}
+		var residentBytes = sampled.stream()
+				.mapToLong(CefProcessUsage::residentBytes)
+				.filter(bytes -> bytes > 0)
+				.sum();
+		var exceeded = residentBytes > memoryThreshold.toBytes();
+		if (exceeded && !underPressure) {
+			log.warn("CEF processes use {} MB, more than the threshold of {} MB", residentBytes >> 20, memoryThreshold.toMegabytes());
+			relieve(sampled, residentBytes);
+		}
+		underPressure = exceeded;
+	}
+
+	private void relieve(List<CefProcessUsage> sampled, long residentBytes) {
+		var browser = cefBrowser.getIfAvailable();
+		if (browser != null && actions.contains(PressureAction.CLEAR_CACHES)) {
+			var devTools = browser.getDevToolsClient();
+			devTools.executeDevToolsMethod("Network.clearBrowserCache", "{}");
+			devTools.executeDevToolsMethod("Memory.simulatePressureNotification", "{\"level\":\"critical\"}");
+		}
+		if (browser != null && hidden && actions.contains(PressureAction.RELOAD_HIDDEN)) {
+			log.info("Reloading the hidden browser to release its memory");
+			browser.reload();
+		}
+		if (actions.contains(PressureAction.NOTIFY)) {
+			eventPublisher.publishEvent(new CefMemoryPressureEvent(sampled, residentBytes));
+		}
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+}
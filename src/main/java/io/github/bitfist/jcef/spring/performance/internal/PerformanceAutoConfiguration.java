@@ -0,0 +1,45 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.performance.PerformanceProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.cef.browser.CefBrowser;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@AutoConfiguration
+@EnableConfigurationProperties(PerformanceProperties.class)
+class PerformanceAutoConfiguration {
+
+	@Bean
+	PerformanceProfileCustomizer performanceProfileCustomizer(PerformanceProperties properties) {
+		return new PerformanceProfileCustomizer(properties);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "jcef.performance.monitor.enabled", havingValue = "true")
+	CefProcessMonitor cefProcessMonitor(
+			PerformanceProperties properties,
+			ObjectProvider<CefBrowser> cefBrowser,
+			ApplicationEventPublisher eventPublisher
+	) {
+		var monitor = properties.getMonitor();
+		return new CefProcessMonitor(new ProcessSampler(), monitor.getInterval(), monitor.getMemoryThreshold(), monitor.getActions(), cefBrowser, eventPublisher);
+	}
+
+	@Configuration
+	@ConditionalOnClass(MeterBinder.class)
+	@ConditionalOnProperty(name = "jcef.performance.monitor.enabled", havingValue = "true")
+	static class MetricsConfiguration {
+
+		@Bean
+		CefProcessMetrics cefProcessMetrics(CefProcessMonitor cefProcessMonitor) {
+			return new CefProcessMetrics(cefProcessMonitor);
+		}
+	}
+}
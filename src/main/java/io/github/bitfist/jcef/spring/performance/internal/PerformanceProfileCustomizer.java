@@ -0,0 +1,93 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.browser.CefApplicationCustomizer;
+import io.github.bitfist.jcef.spring.performance.PerformanceProperties;
+import io.github.bitfist.jcef.spring.performance.PerformanceProperties.Profile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.friwi.jcefmaven.CefAppBuilder;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🪶 Applies the Chromium switches of the configured {@link Profile} and the explicit limits.
+ * <p>
+ * Runs before all other {@link CefApplicationCustomizer}s, so applications can still override single switches.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class PerformanceProfileCustomizer implements CefApplicationCustomizer, Ordered {
+
+	static final DataSize LOW_MEMORY_MAX_OLD_SPACE_SIZE = DataSize.ofMegabytes(256);
+	static final int LOW_MEMORY_RENDERER_PROCESS_LIMIT = 1;
+
+	// Services that phone home or prefetch in the background, none of which an embedded UI uses
+	private static final List<String> BACKGROUND_FEATURES = List.of(
+			"AutofillServerCommunication",
+			"CertificateTransparencyComponentUpdater",
+			"MediaRouter",
+			"OptimizationHints",
+			"Translate"
+	);
+
+	private final PerformanceProperties properties;
+
+	@Override
+	public void accept(CefAppBuilder builder) {
+		var arguments = arguments();
+		if (arguments.isEmpty()) {
+			return;
+		}
+		log.info("Applying performance profile {}: {}", properties.getProfile(), arguments);
+		builder.addJcefArgs(arguments.toArray(String[]::new));
+	}
+
+	List<String> arguments() {
+		var profile = properties.getProfile();
+		var arguments = new ArrayList<String>();
+		var maxOldSpaceSize = properties.getMaxOldSpaceSize();
+		var rendererProcessLimit = properties.getRendererProcessLimit();
+		if (profile == Profile.LOW_MEMORY) {
+			maxOldSpaceSize = maxOldSpaceSize != null ? maxOldSpaceSize : LOW_MEMORY_MAX_OLD_SPACE_SIZE;
+			rendererProcessLimit = rendererProcessLimit != null ? rendererProcessLimit : LOW_MEMORY_RENDERER_PROCESS_LIMIT;
+		}
+		if (profile != null) {
+			arguments.add("--disable-background-networking");
+			arguments.add("--disable-component-update");
+			var disabledFeatures = new ArrayList<>(BACKGROUND_FEATURES);
+			if (profile == Profile.LOW_MEMORY) {
+				// Keeps previous pages alive in memory for instant back navigation
+				disabledFeatures.add("BackForwardCache");
+			}
+			// Chromium only honors the last occurrence of a switch, so all features go into one
+			arguments.add("--disable-features=" + String.join(",", disabledFeatures));
+		}
+		if (profile == Profile.LOW_MEMORY) {
+			arguments.add("--disable-gpu");
+			arguments.add("--disable-gpu-compositing");
+			arguments.add("--disable-gpu-shader-disk-cache");
+			arguments.add("--disable-gpu-program-cache");
+			// Site isolation spawns a renderer per site, defeating the process limit
+			arguments.add("--disable-site-isolation-trials");
+		} else if (profile == Profile.THROUGHPUT) {
+			arguments.add("--enable-gpu-rasterization");
+			arguments.add("--enable-zero-copy");
+			arguments.add("--ignore-gpu-blocklist");
+		}
+		if (maxOldSpaceSize != null) {
+			arguments.add("--js-flags=--max-old-space-size=" + maxOldSpaceSize.toMegabytes());
+		}
+		if (rendererProcessLimit != null) {
+			arguments.add("--renderer-process-limit=" + rendererProcessLimit);
+		}
+		return arguments;
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
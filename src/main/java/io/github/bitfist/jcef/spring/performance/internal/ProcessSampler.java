@@ -0,0 +1,110 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.performance.CefProcessUsage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 🔎 Samples the CEF subprocesses among the descendants of this JVM, which itself is the CEF browser process.
+ * <p>
+ * A descendant counts as CEF subprocess if it has a Chromium {@code --type=} argument or runs the JCEF helper
+ * executable. Other processes the application starts are not sampled.
+ * <p>
+ * Resident memory is read from {@code /proc}, so it is only known on Linux. CPU time comes from {@link ProcessHandle}.
+ */
+class ProcessSampler {
+
+	static final String UNKNOWN_TYPE = "unknown";
+
+	private static final String TYPE_ARGUMENT = "--type=";
+	// jcef_helper on Linux and Windows, "jcef Helper (Renderer)" and friends on macOS
+	private static final String HELPER_EXECUTABLE = "jcef_helper";
+	private static final long UNKNOWN = -1;
+
+	private final Path procRoot;
+	private final Supplier<Stream<ProcessHandle>> processes;
+
+	ProcessSampler() {
+		this(Path.of("/proc"), () -> ProcessHandle.current().descendants());
+	}
+
+	ProcessSampler(Path procRoot, Supplier<Stream<ProcessHandle>> processes) {
+		this.procRoot = procRoot;
+		this.processes = processes;
+	}
+
+	List<CefProcessUsage> sample() {
+		try (var descendants = processes.get()) {
+			return descendants.filter(ProcessHandle::isAlive)
+					.map(this::usage)
+					.flatMap(Optional::stream)
+					.toList();
+		}
+	}
+
+	private Optional<CefProcessUsage> usage(ProcessHandle process) {
+		var info = process.info();
+		var type = type(info);
+		if (type.isEmpty() && !isHelper(info)) {
+			return Optional.empty();
+		}
+		return Optional.of(new CefProcessUsage(
+				process.pid(),
+				type.orElse(UNKNOWN_TYPE),
+				residentBytes(process.pid()),
+				info.totalCpuDuration().orElse(Duration.ZERO)
+		));
+	}
+
+	private static Optional<String> type(ProcessHandle.Info info) {
+		return info.arguments().stream()
+				.flatMap(Arrays::stream)
+				.filter(argument -> argument.startsWith(TYPE_ARGUMENT))
+				.map(argument -> argument.substring(TYPE_ARGUMENT.length()))
+				.findFirst();
+	}
+
+	private static boolean isHelper(ProcessHandle.Info info) {
+		return info.command()
+				.map(command -> Path.of(command).getFileName())
+				.map(fileName -> fileName.toString().toLowerCase(Locale.ROOT).replace(' ', '_'))
+				.filter(fileName -> fileName.startsWith(HELPER_EXECUTABLE))
+				.isPresent();
+	}
+
+	private long residentBytes(long pid) {
+		var directory = procRoot.resolve(Long.toString(pid));
+		// smaps_rollup sums up all mappings, status is the fallback for kernels before 4.14
+		var kilobytes = readKilobytes(directory.resolve("smaps_rollup"), "Rss:");
+		if (kilobytes == UNKNOWN) {
+			kilobytes = readKilobytes(directory.resolve("status"), "VmRSS:");
+		}
+		return kilobytes == UNKNOWN ? UNKNOWN : kilobytes * 1024;
+	}
+
+	private static long readKilobytes(Path file, String field) {
+		if (!Files.isReadable(file)) {
+			return UNKNOWN;
+		}
+		try (var lines = Files.lines(file)) {
+			return lines.filter(line -> line.startsWith(field))
+					.findFirst()
+					// e.g. "Rss:              123456 kB"
+					.map(line -> Long.parseLong(line.substring(field.length()).replace("kB", "").trim()))
+					.orElse(UNKNOWN);
+		} catch (IOException | UncheckedIOException | NumberFormatException exception) {
+			// The process may exit while its files are read
+			return UNKNOWN;
+		}
+	}
+}
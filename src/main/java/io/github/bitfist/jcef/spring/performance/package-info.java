@@ -0,0 +1,8 @@
+@ApplicationModule(
+		displayName = "Performance"
+)
+@NonNullApi
+package io.github.bitfist.jcef.spring.performance;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.modulith.ApplicationModule;
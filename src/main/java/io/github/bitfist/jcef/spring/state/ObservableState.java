@@ -0,0 +1,46 @@
+package io.github.bitfist.jcef.spring.state;
+
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 🗂️ A versioned state object that is kept in sync with the generated TypeScript store of the same name.
+ * <p>
+ * Every change increments the version and only the JSON-Patch delta to the previous version is sent to the UI.
+ * Treat the value as immutable outside of {@link #update(UnaryOperator)} and {@link #update(String, Consumer)}.
+ * <p>
+ * {@link #set(Object)} and {@link #update(UnaryOperator)} serialize and compare the whole value. For large states,
+ * {@link #update(String, Consumer)} only serializes the changed member, so its cost scales with the size of the change.
+ */
+public interface ObservableState<T> {
+
+	String getName();
+
+	T get();
+
+	long getVersion();
+
+	/**
+	 * Replaces the value. Nothing is sent if the serialized value did not change.
+	 */
+	void set(T value);
+
+	/**
+	 * Changes the value atomically. The operator may modify the current value in place and return it.
+	 */
+	void update(UnaryOperator<T> change);
+
+	/**
+	 * Changes the value in place atomically, where the change only touches the member at the JSON Pointer (RFC 6901),
+	 * e.g. {@code /tasks/42/done}. Only that member is serialized and compared, a member the change removed from its
+	 * map or list is sent as removal.
+	 * <p>
+	 * Pointer tokens are resolved against the value like Jackson serializes it: bean properties by their JSON name, map
+	 * entries by their string key and list or array elements by their index. Name the list itself when the change
+	 * inserts or removes elements, since that shifts the elements after them. If the pointer does not resolve, the
+	 * whole value is compared as by {@link #update(UnaryOperator)}.
+	 *
+	 * @throws IllegalArgumentException if the pointer is no valid JSON Pointer
+	 */
+	void update(String jsonPointer, Consumer<? super T> change);
+}
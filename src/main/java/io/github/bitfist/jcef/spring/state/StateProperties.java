@@ -0,0 +1,21 @@
+package io.github.bitfist.jcef.spring.state;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * ⚙️ Configuration properties for observable state synchronization.
+ * <p>
+ * Binds to properties prefixed with 'jcef.state'.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcef.state")
+public class StateProperties {
+
+	public static final int DEFAULT_HISTORY_SIZE = 32;
+
+	/**
+	 * Number of deltas kept per state, so reconnecting stores can catch up without a full resync.
+	 */
+	private int historySize = DEFAULT_HISTORY_SIZE;
+}
@@ -0,0 +1,16 @@
+package io.github.bitfist.jcef.spring.state;
+
+/**
+ * 🗂️ Creates the {@link ObservableState}s the UI can subscribe to by name.
+ */
+public interface StateRegistry {
+
+	/**
+	 * Registers a new state.
+	 *
+	 * @param name         the name used by the TypeScript store, see {@code @TypeScriptState}
+	 * @param initialValue the initial value, version {@code 0}
+	 * @throws IllegalStateException if a state with the name is already registered
+	 */
+	<T> ObservableState<T> register(String name, T initialValue);
+}
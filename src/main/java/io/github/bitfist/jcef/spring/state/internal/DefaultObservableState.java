@@ -0,0 +1,287 @@
+package io.github.bitfist.jcef.spring.state.internal;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import io.github.bitfist.jcef.spring.state.ObservableState;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 🗂️ {@link ObservableState} that pushes the JSON-Patch delta of every change to its subscriptions.
+ * <p>
+ * A subscription states the version the store already has. It receives the combined deltas since that version if they
+ * are still in the history, otherwise a full snapshot. Afterwards every frame names its base version, so the store
+ * detects gaps and resubscribes for a snapshot.
+ * <p>
+ * The last sent tree is kept to diff against. Path updates replace the changed member within it, the history holds
+ * copies of the deltas, so those replacements never alter a recorded delta.
+ */
+@Slf4j
+class DefaultObservableState<T> implements ObservableState<T> {
+
+	static final String SNAPSHOT_FRAME = "snapshot";
+	static final String PATCH_FRAME = "patch";
+
+	// Marks a member its map or list does not contain, as opposed to a null value
+	private static final Object MISSING = new Object();
+
+	private final String name;
+	private final ObjectMapper objectMapper;
+	private final int historySize;
+	private final Deque<Revision> history = new ArrayDeque<>();
+	private final Map<Long, CefSubscription> subscriptions = new LinkedHashMap<>();
+
+	private T value;
+	private JsonNode tree;
+	private long version;
+
+	DefaultObservableState(String name, T initialValue, ObjectMapper objectMapper, int historySize) {
+		this.name = name;
+		this.objectMapper = objectMapper;
+		this.historySize = historySize;
+		this.value = initialValue;
+		this.tree = objectMapper.valueToTree(initialValue);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public synchronized T get() {
+		return value;
+	}
+
+	@Override
+	public synchronized long getVersion() {
+		return version;
+	}
+
+	@Override
+	public synchronized void set(T newValue) {
+		JsonNode newTree = objectMapper.valueToTree(newValue);
+		var patch = JsonPatchDiff.diff(tree, newTree);
+		value = newValue;
+		if (patch.isEmpty()) {
+			return;
+		}
+		tree = newTree;
+		publish(patch);
+	}
+
+	@Override
+	public synchronized void update(UnaryOperator<T> change) {
+		set(change.apply(value));
+	}
+
+	@Override
+	public synchronized void update(String jsonPointer, Consumer<? super T> change) {
+		var pointer = JsonPointer.compile(jsonPointer);
+		change.accept(value);
+		if (pointer.matches()) {
+			set(value);
+			return;
+		}
+		try {
+			updateMember(pointer);
+		} catch (IllegalArgumentException exception) {
+			log.debug("Comparing the whole state {}, {} does not resolve: {}", name, jsonPointer, exception.getMessage());
+			set(value);
+		}
+	}
+
+	/**
+	 * Replaces the member at the pointer within the tree by its current serialization.
+	 */
+	private void updateMember(JsonPointer pointer) {
+		var container = tree.at(pointer.head());
+		var last = pointer.last();
+		var index = last.getMatchingIndex();
+		@Nullable JsonNode previous;
+		if (container instanceof ObjectNode object) {
+			previous = object.get(last.getMatchingProperty());
+		} else if (container instanceof ArrayNode array && index >= 0 && index <= array.size()) {
+			previous = array.get(index);
+		} else {
+			throw new IllegalArgumentException("No object or list at " + pointer.head());
+		}
+		var member = resolve(pointer);
+		@Nullable JsonNode current = member == MISSING ? null : objectMapper.valueToTree(member);
+		if (current == null && member != MISSING) {
+			current = NullNode.getInstance();
+		}
+
+		var patch = JsonPatchDiff.diff(pointer.toString(), previous, current);
+		if (patch.isEmpty()) {
+			return;
+		}
+		if (container instanceof ObjectNode object) {
+			if (current == null) {
+				object.remove(last.getMatchingProperty());
+			} else {
+				object.set(last.getMatchingProperty(), current);
+			}
+		} else {
+			var array = (ArrayNode) container;
+			if (current == null) {
+				array.remove(index);
+			} else if (index == array.size()) {
+				array.add(current);
+			} else {
+				array.set(index, current);
+			}
+		}
+		publish(patch);
+	}
+
+	/**
+	 * Resolves the member at the pointer within the value, {@link #MISSING} if its map or list has no such entry.
+	 */
+	private @Nullable Object resolve(JsonPointer pointer) {
+		@Nullable Object current = value;
+		for (var step = pointer; !step.matches(); step = step.tail()) {
+			if (current == null || current == MISSING) {
+				throw new IllegalArgumentException("The parent of " + step + " is missing");
+			}
+			current = member(current, step);
+		}
+		return current;
+	}
+
+	private @Nullable Object member(Object container, JsonPointer step) {
+		var property = step.getMatchingProperty();
+		var index = step.getMatchingIndex();
+		if (container instanceof JsonNode node) {
+			var child = node.isArray() ? node.get(index) : node.get(property);
+			return child == null ? MISSING : child;
+		}
+		if (container instanceof Map<?, ?> map) {
+			return map.containsKey(property) ? map.get(property) : MISSING;
+		}
+		if (container instanceof List<?> list) {
+			requireIndex(index, step);
+			return index < list.size() ? list.get(index) : MISSING;
+		}
+		if (container.getClass().isArray()) {
+			requireIndex(index, step);
+			return index < Array.getLength(container) ? Array.get(container, index) : MISSING;
+		}
+		var description = objectMapper.getSerializationConfig().introspect(objectMapper.constructType(container.getClass()));
+		for (BeanPropertyDefinition definition : description.findProperties()) {
+			var accessor = definition.getAccessor();
+			if (definition.getName().equals(property) && accessor != null) {
+				accessor.fixAccess(true);
+				return accessor.getValue(container);
+			}
+		}
+		throw new IllegalArgumentException("No property " + property + " in " + container.getClass().getName());
+	}
+
+	private static void requireIndex(int index, JsonPointer step) {
+		if (index < 0) {
+			throw new IllegalArgumentException("No list index " + step.getMatchingProperty());
+		}
+	}
+
+	private void publish(ArrayNode patch) {
+		version++;
+		// Copied, later path updates replace members of the tree the patch shares nodes with
+		history.addLast(new Revision(version, patch.deepCopy()));
+		while (history.size() > historySize) {
+			history.removeFirst();
+		}
+		if (!subscriptions.isEmpty()) {
+			var frame = patchFrame(version - 1, patch);
+			subscriptions.forEach((subscriptionId, subscription) -> send(subscriptionId, subscription, frame));
+		}
+	}
+
+	/**
+	 * Opens a subscription for a store at {@code clientVersion}, a negative version requests a snapshot.
+	 */
+	synchronized void subscribe(long subscriptionId, long clientVersion, CefSubscription subscription) {
+		subscriptions.put(subscriptionId, subscription);
+		if (clientVersion == version) {
+			return;
+		}
+		var catchUp = catchUp(clientVersion);
+		send(subscriptionId, subscription, catchUp == null ? snapshotFrame() : patchFrame(clientVersion, catchUp));
+	}
+
+	synchronized void unsubscribe(long subscriptionId) {
+		subscriptions.remove(subscriptionId);
+	}
+
+	synchronized int subscriptionCount() {
+		return subscriptions.size();
+	}
+
+	/**
+	 * Combines the deltas after {@code clientVersion}, or returns {@code null} if they are no longer in the history.
+	 */
+	private @Nullable ArrayNode catchUp(long clientVersion) {
+		if (clientVersion < 0 || clientVersion > version || history.isEmpty() || history.getFirst().version() > clientVersion + 1) {
+			return null;
+		}
+		var combined = objectMapper.createArrayNode();
+		for (Revision revision : history) {
+			if (revision.version() > clientVersion) {
+				combined.addAll(revision.patch());
+			}
+		}
+		return combined;
+	}
+
+	private String snapshotFrame() {
+		var frame = objectMapper.createObjectNode();
+		frame.put("type", SNAPSHOT_FRAME);
+		frame.put("version", version);
+		frame.set("value", tree);
+		return write(frame);
+	}
+
+	private String patchFrame(long baseVersion, ArrayNode patch) {
+		var frame = objectMapper.createObjectNode();
+		frame.put("type", PATCH_FRAME);
+		frame.put("baseVersion", baseVersion);
+		frame.put("version", version);
+		frame.set("patch", patch);
+		return write(frame);
+	}
+
+	private String write(JsonNode frame) {
+		try {
+			return objectMapper.writeValueAsString(frame);
+		} catch (JsonProcessingException exception) {
+			throw new IllegalStateException("Failed to serialize state " + name, exception);
+		}
+	}
+
+	private void send(long subscriptionId, CefSubscription subscription, String frame) {
+		try {
+			subscription.send(frame);
+		} catch (RuntimeException exception) {
+			log.error("Failed to send state {} to subscription {}", name, subscriptionId, exception);
+		}
+	}
+
+	private record Revision(long version, ArrayNode patch) {
+	}
+}
@@ -0,0 +1,118 @@
+package io.github.bitfist.jcef.spring.state.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+
+/**
+ * 🧮 Computes RFC 6902 JSON-Patch documents between two JSON trees.
+ * <p>
+ * Only {@code add}, {@code remove} and {@code replace} operations are produced. Arrays are compared after trimming
+ * their common prefix and suffix, so inserting or removing a single element of a large list results in a single
+ * operation.
+ */
+final class JsonPatchDiff {
+
+	private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+	private JsonPatchDiff() {
+	}
+
+	static ArrayNode diff(JsonNode source, JsonNode target) {
+		return diff("", source, target);
+	}
+
+	/**
+	 * Computes the patch for the member at the path, which is added if {@code source} is {@code null} and removed if
+	 * {@code target} is {@code null}.
+	 */
+	static ArrayNode diff(String path, @Nullable JsonNode source, @Nullable JsonNode target) {
+		var patch = NODE_FACTORY.arrayNode();
+		if (source == null) {
+			if (target != null) {
+				addOperation(patch, "add", path, target);
+			}
+		} else if (target == null) {
+			addOperation(patch, "remove", path, null);
+		} else {
+			diff(path, source, target, patch);
+		}
+		return patch;
+	}
+
+	private static void diff(String path, JsonNode source, JsonNode target, ArrayNode patch) {
+		if (source.equals(target)) {
+			return;
+		}
+		if (source.isObject() && target.isObject()) {
+			diffObjects(path, source, target, patch);
+		} else if (source.isArray() && target.isArray()) {
+			diffArrays(path, source, target, patch);
+		} else {
+			addOperation(patch, "replace", path, target);
+		}
+	}
+
+	private static void diffObjects(String path, JsonNode source, JsonNode target, ArrayNode patch) {
+		for (Iterator<String> names = source.fieldNames(); names.hasNext(); ) {
+			var name = names.next();
+			var fieldPath = path + "/" + escape(name);
+			if (target.has(name)) {
+				diff(fieldPath, source.get(name), target.get(name), patch);
+			} else {
+				addOperation(patch, "remove", fieldPath, null);
+			}
+		}
+		for (Iterator<String> names = target.fieldNames(); names.hasNext(); ) {
+			var name = names.next();
+			if (!source.has(name)) {
+				addOperation(patch, "add", path + "/" + escape(name), target.get(name));
+			}
+		}
+	}
+
+	private static void diffArrays(String path, JsonNode source, JsonNode target, ArrayNode patch) {
+		var start = 0;
+		var sourceEnd = source.size();
+		var targetEnd = target.size();
+		while (start < sourceEnd && start < targetEnd && source.get(start).equals(target.get(start))) {
+			start++;
+		}
+		while (sourceEnd > start && targetEnd > start && source.get(sourceEnd - 1).equals(target.get(targetEnd - 1))) {
+			sourceEnd--;
+			targetEnd--;
+		}
+
+		var common = Math.min(sourceEnd, targetEnd) - start;
+		for (var offset = 0; offset < common; offset++) {
+			diff(path + "/" + (start + offset), source.get(start + offset), target.get(start + offset), patch);
+		}
+		var index = start + common;
+		// Every removal shifts the following elements, so all of them are removed at the same index
+		for (var removed = index; removed < sourceEnd; removed++) {
+			addOperation(patch, "remove", path + "/" + index, null);
+		}
+		for (var added = index; added < targetEnd; added++) {
+			addOperation(patch, "add", path + "/" + added, target.get(added));
+		}
+	}
+
+	private static void addOperation(ArrayNode patch, String op, String path, @Nullable JsonNode value) {
+		var operation = patch.addObject();
+		operation.put("op", op);
+		operation.put("path", path);
+		if (value != null) {
+			operation.set("value", value);
+		}
+	}
+
+	/**
+	 * Escapes a member name as JSON Pointer reference token (RFC 6901).
+	 */
+	static String escape(String name) {
+		return name.replace("~", "~0").replace("/", "~1");
+	}
+}
@@ -0,0 +1,18 @@
+package io.github.bitfist.jcef.spring.state.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.state.StateProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(StateProperties.class)
+class StateAutoConfiguration {
+
+	@Bean
+	StateSynchronizer stateSynchronizer(@Qualifier("cefBrowserObjectMapper") ObjectMapper objectMapper, StateProperties properties) {
+		return new StateSynchronizer(objectMapper, properties.getHistorySize());
+	}
+}
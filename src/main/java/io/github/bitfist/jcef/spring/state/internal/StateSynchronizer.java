@@ -0,0 +1,81 @@
+package io.github.bitfist.jcef.spring.state.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import io.github.bitfist.jcef.spring.browser.CefSubscriptionHandler;
+import io.github.bitfist.jcef.spring.state.ObservableState;
+import io.github.bitfist.jcef.spring.state.StateRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔄 Registers observable states and connects the stores subscribing via
+ * {@code {"state": "<name>", "version": <version>}} persistent queries.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class StateSynchronizer implements StateRegistry, CefSubscriptionHandler {
+
+	static final String STATE_FIELD = "state";
+	static final String VERSION_FIELD = "version";
+	static final int UNKNOWN_STATE_ERROR = 404;
+
+	private final ObjectMapper objectMapper;
+	private final int historySize;
+	private final Map<String, DefaultObservableState<?>> states = new ConcurrentHashMap<>();
+	private final Map<Long, DefaultObservableState<?>> subscriptions = new ConcurrentHashMap<>();
+
+	@Override
+	public <T> ObservableState<T> register(String name, T initialValue) {
+		var state = new DefaultObservableState<>(name, initialValue, objectMapper, historySize);
+		if (states.putIfAbsent(name, state) != null) {
+			throw new IllegalStateException("State " + name + " is already registered");
+		}
+		return state;
+	}
+
+	@Override
+	public boolean subscribe(long subscriptionId, String request, CefSubscription subscription) {
+		var node = readRequest(request);
+		if (node == null) {
+			return false;
+		}
+		var name = node.get(STATE_FIELD).asText();
+		var state = states.get(name);
+		if (state == null) {
+			subscription.fail(UNKNOWN_STATE_ERROR, "Unknown state " + name);
+			return true;
+		}
+		subscriptions.put(subscriptionId, state);
+		state.subscribe(subscriptionId, node.path(VERSION_FIELD).asLong(-1), subscription);
+		log.debug("Subscription {} opened for state {}", subscriptionId, name);
+		return true;
+	}
+
+	@Override
+	public void unsubscribe(long subscriptionId) {
+		var state = subscriptions.remove(subscriptionId);
+		if (state != null) {
+			state.unsubscribe(subscriptionId);
+			log.debug("Subscription {} closed for state {}", subscriptionId, state.getName());
+		}
+	}
+
+	private @Nullable JsonNode readRequest(String request) {
+		try {
+			var node = objectMapper.readTree(request);
+			if (node == null || !node.isObject() || !node.path(STATE_FIELD).isTextual()) {
+				return null;
+			}
+			return node;
+		} catch (JsonProcessingException exception) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,8 @@
+@ApplicationModule(
+		displayName = "State"
+)
+@NonNullApi
+package io.github.bitfist.jcef.spring.state;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.modulith.ApplicationModule;
@@ -0,0 +1,23 @@
+package io.github.bitfist.jcef.spring.topic;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ⚙️ Configuration properties for topics pushed from Java to the UI.
+ * <p>
+ * Binds to properties prefixed with 'jcef.topics'.
+ */
+@Data
+@ConfigurationProperties(prefix = "jcef.topics")
+public class TopicProperties {
+
+	public static final Duration DEFAULT_DELIVERY_INTERVAL = Duration.ofMillis(16);
+
+	/**
+	 * Minimum time between two deliveries of the same topic.
+	 */
+	private Duration deliveryInterval = DEFAULT_DELIVERY_INTERVAL;
+}
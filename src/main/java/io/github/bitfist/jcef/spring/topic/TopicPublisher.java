@@ -0,0 +1,17 @@
+package io.github.bitfist.jcef.spring.topic;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 📣 Publishes values to named topics the UI subscribed to via {@code CefTopicService.subscribe(...)}.
+ * <p>
+ * Only the latest value of a topic is delivered, at most once per delivery interval, so fast producers cannot
+ * saturate the renderer. Subscribers immediately receive the latest published value.
+ */
+public interface TopicPublisher {
+
+	/**
+	 * Publishes a value, which is serialized to JSON.
+	 */
+	void publish(String topic, @Nullable Object value);
+}
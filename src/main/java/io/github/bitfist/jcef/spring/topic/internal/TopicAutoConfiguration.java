@@ -0,0 +1,18 @@
+package io.github.bitfist.jcef.spring.topic.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.topic.TopicProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration
+@EnableConfigurationProperties(TopicProperties.class)
+class TopicAutoConfiguration {
+
+	@Bean
+	TopicBroker topicBroker(@Qualifier("cefBrowserObjectMapper") ObjectMapper objectMapper, TopicProperties properties) {
+		return new TopicBroker(objectMapper, properties.getDeliveryInterval());
+	}
+}
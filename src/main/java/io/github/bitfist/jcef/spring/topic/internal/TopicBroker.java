@@ -0,0 +1,163 @@
+package io.github.bitfist.jcef.spring.topic.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import io.github.bitfist.jcef.spring.browser.CefSubscriptionHandler;
+import io.github.bitfist.jcef.spring.topic.TopicPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📣 Delivers published values to the subscriptions opened by the UI.
+ * <p>
+ * Per topic only the latest value is kept. A delivery is scheduled when a value is published and no delivery is
+ * pending, at the earliest one delivery interval after the previous one, so values published in between replace each
+ * other and the topic is delivered at most once per interval. Deliveries and the initial value sent to a new
+ * subscription are sent while holding the topic, so every subscription receives the values in publication order.
+ */
+@Slf4j
+class TopicBroker implements TopicPublisher, CefSubscriptionHandler, AutoCloseable {
+
+	static final String SUBSCRIBE_FIELD = "subscribe";
+	static final int UNKNOWN_TOPIC_ERROR = 404;
+
+	private final ObjectMapper objectMapper;
+	private final long deliveryIntervalNanos;
+	private final ScheduledExecutorService scheduler;
+	private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+	private final Map<Long, Topic> subscriptions = new ConcurrentHashMap<>();
+
+	TopicBroker(ObjectMapper objectMapper, Duration deliveryInterval) {
+		this.objectMapper = objectMapper;
+		this.deliveryIntervalNanos = Math.max(0, deliveryInterval.toNanos());
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			var thread = new Thread(runnable, "jcef-topic-delivery");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Override
+	public void publish(String topic, @Nullable Object value) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException exception) {
+			throw new IllegalArgumentException("Failed to serialize value for topic " + topic, exception);
+		}
+		topics.computeIfAbsent(topic, Topic::new).publish(json);
+	}
+
+	@Override
+	public boolean subscribe(long subscriptionId, String request, CefSubscription subscription) {
+		var topicName = readTopicName(request);
+		if (topicName == null) {
+			return false;
+		}
+		if (topicName.isBlank()) {
+			subscription.fail(UNKNOWN_TOPIC_ERROR, "Topic name must not be blank");
+			return true;
+		}
+		var topic = topics.computeIfAbsent(topicName, Topic::new);
+		subscriptions.put(subscriptionId, topic);
+		topic.subscribe(subscriptionId, subscription);
+		log.debug("Subscription {} opened for topic {}", subscriptionId, topicName);
+		return true;
+	}
+
+	@Override
+	public void unsubscribe(long subscriptionId) {
+		var topic = subscriptions.remove(subscriptionId);
+		if (topic != null) {
+			topic.unsubscribe(subscriptionId);
+			log.debug("Subscription {} closed for topic {}", subscriptionId, topic.name);
+		}
+	}
+
+	/**
+	 * Returns the topic of a {@code {"subscribe": "<topic>"}} request, or {@code null} for any other request.
+	 */
+	private @Nullable String readTopicName(String request) {
+		try {
+			var node = objectMapper.readTree(request);
+			if (node == null || !node.isObject() || !node.path(SUBSCRIBE_FIELD).isTextual()) {
+				return null;
+			}
+			return node.get(SUBSCRIBE_FIELD).asText();
+		} catch (JsonProcessingException exception) {
+			return null;
+		}
+	}
+
+	int subscriberCount(String topic) {
+		var state = topics.get(topic);
+		return state == null ? 0 : state.subscribers.size();
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private final class Topic {
+
+		private final String name;
+		private final Map<Long, CefSubscription> subscribers = new ConcurrentHashMap<>();
+		private @Nullable String latest;
+		private boolean deliveryScheduled;
+		private long lastDeliveryNanos = System.nanoTime() - deliveryIntervalNanos;
+
+		private Topic(String name) {
+			this.name = name;
+		}
+
+		synchronized void publish(String json) {
+			latest = json;
+			if (deliveryScheduled) {
+				// The pending delivery picks up the latest value
+				return;
+			}
+			deliveryScheduled = true;
+			var delay = Math.max(0, lastDeliveryNanos + deliveryIntervalNanos - System.nanoTime());
+			scheduler.schedule(this::deliver, delay, TimeUnit.NANOSECONDS);
+		}
+
+		synchronized void subscribe(long subscriptionId, CefSubscription subscription) {
+			subscribers.put(subscriptionId, subscription);
+			// Sent under the monitor, so a delivery of a newer value cannot overtake it
+			if (latest != null) {
+				send(subscriptionId, subscription, latest);
+			}
+		}
+
+		void unsubscribe(long subscriptionId) {
+			subscribers.remove(subscriptionId);
+		}
+
+		private synchronized void deliver() {
+			deliveryScheduled = false;
+			lastDeliveryNanos = System.nanoTime();
+			if (latest == null) {
+				return;
+			}
+			var value = latest;
+			subscribers.forEach((subscriptionId, subscription) -> send(subscriptionId, subscription, value));
+		}
+
+		private void send(long subscriptionId, CefSubscription subscription, String value) {
+			try {
+				subscription.send(value);
+			} catch (RuntimeException exception) {
+				log.error("Failed to deliver topic {} to subscription {}", name, subscriptionId, exception);
+			}
+		}
+	}
+}
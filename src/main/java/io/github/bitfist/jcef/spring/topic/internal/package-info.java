@@ -0,0 +1,4 @@
+@NonNullApi
+package io.github.bitfist.jcef.spring.topic.internal;
+
+import org.springframework.lang.NonNullApi;
@@ -0,0 +1,8 @@
+@ApplicationModule(
+		displayName = "Topic"
+)
+@NonNullApi
+package io.github.bitfist.jcef.spring.topic;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.modulith.ApplicationModule;
@@ -0,0 +1,22 @@
+package io.github.bitfist.jcef.spring.tsobject;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class as value of an observable state and generates a typed TypeScript store for it, in addition to the
+ * class itself.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface TypeScriptState {
+
+	/**
+	 * The name the state is registered with on the Java side.
+	 */
+	String name();
+
+	String path() default "";
+}
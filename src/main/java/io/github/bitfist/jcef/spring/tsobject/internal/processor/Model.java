@@ -1,6 +1,7 @@
 package io.github.bitfist.jcef.spring.tsobject.internal.processor;
 
 import lombok.Data;
+import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,9 @@ class TSClass {
 	private final Type type;
 	private final List<Field> fields = new ArrayList<>();
 	private final List<Method> methods = new ArrayList<>();
+	// Only set for stores, the name of the observable state and the generated type of its value
+	private @Nullable String stateName;
+	private @Nullable TSClass stateType;
 
 	TSClass(String javaClassName, String tsClassName, String packageName, String outputPath, Type type) {
 		this.javaClassName = javaClassName;
@@ -31,6 +35,6 @@ class TSClass {
 	}
 
 	enum Type {
-		SERVICE, CLASS, ENUM
+		SERVICE, CLASS, ENUM, STATE
 	}
 }
\ No newline at end of file
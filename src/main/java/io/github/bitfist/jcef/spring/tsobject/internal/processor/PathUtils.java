@@ -43,4 +43,17 @@ final class PathUtils {
 
 		return path.toString();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Relative path from a generated file's output path to the {@code jcef/} support files, including a trailing slash.
+	 */
+	static String calculatePathToJcef(String fromPath) {
+		if (fromPath.isEmpty()) {
+			return "./jcef/";
+		}
+
+		var parts = fromPath.split("/");
+
+		return "../".repeat(parts.length) + "jcef/";
+	}
+}
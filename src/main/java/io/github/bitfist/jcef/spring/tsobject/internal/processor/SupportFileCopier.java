@@ -31,6 +31,9 @@ class SupportFileCopier {
 			copyFileFromClasspath("generator/templates/CefQueryService.ts", cefServiceDest, Function.identity());
 		}
 
+		copyFileFromClasspath("generator/templates/CefTopicService.ts", Path.of(this.outputPath, "jcef", "CefTopicService.ts"), Function.identity());
+		copyFileFromClasspath("generator/templates/CefStateStore.ts", Path.of(this.outputPath, "jcef", "CefStateStore.ts"), Function.identity());
+		copyFileFromClasspath("generator/templates/JsonPatch.ts", Path.of(this.outputPath, "jcef", "JsonPatch.ts"), Function.identity());
 		copyFileFromClasspath("generator/templates/ResponseValueConverter.ts", Path.of(this.outputPath, "jcef", "ResponseValueConverter.ts"), Function.identity());
 		copyFileFromClasspath("generator/templates/ResponseType.ts", Path.of(this.outputPath, "jcef", "ResponseType.ts"), Function.identity());
 		copyFileFromClasspath("generator/templates/cef.d.ts", Path.of(this.outputPath, "types", "cef.d.ts"), Function.identity());
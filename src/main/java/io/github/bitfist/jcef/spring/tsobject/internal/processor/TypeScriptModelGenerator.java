@@ -2,6 +2,7 @@ package io.github.bitfist.jcef.spring.tsobject.internal.processor;
 
 import io.github.bitfist.jcef.spring.tsobject.TypeScriptClass;
 import io.github.bitfist.jcef.spring.tsobject.TypeScriptService;
+import io.github.bitfist.jcef.spring.tsobject.TypeScriptState;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
@@ -77,9 +78,31 @@ class TypeScriptModelGenerator {
 		}
 	}
 
+	void processState(TypeElement typeElement) {
+		var annotation = typeElement.getAnnotation(TypeScriptState.class);
+		processClass(typeElement);
+
+		var qualifiedName = typeElement.getQualifiedName().toString();
+		var storeName = qualifiedName + "Store";
+		if (processedTypes.contains(storeName)) {
+			return;
+		}
+		processedTypes.add(storeName);
+
+		var stateType = classModel.get(qualifiedName);
+		var store = new TSClass(storeName, stateType.getTsClassName() + "Store", stateType.getPackageName(), stateType.getOutputPath(), TSClass.Type.STATE);
+		store.setStateName(annotation.name());
+		store.setStateType(stateType);
+		classModel.put(storeName, store);
+	}
+
 	private static @Nullable String getCustomPath(TypeElement typeElement) {
 		var annotation = typeElement.getAnnotation(TypeScriptClass.class);
-		return annotation == null ? null : annotation.path();
+		if (annotation != null) {
+			return annotation.path();
+		}
+		var stateAnnotation = typeElement.getAnnotation(TypeScriptState.class);
+		return stateAnnotation == null ? null : stateAnnotation.path();
 	}
 
 	void processService(TypeElement typeElement) {
@@ -2,6 +2,7 @@ package io.github.bitfist.jcef.spring.tsobject.internal.processor;
 
 import io.github.bitfist.jcef.spring.tsobject.TypeScriptClass;
 import io.github.bitfist.jcef.spring.tsobject.TypeScriptService;
+import io.github.bitfist.jcef.spring.tsobject.TypeScriptState;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Messager;
@@ -25,7 +26,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @SupportedAnnotationTypes({
 		"io.github.bitfist.jcef.spring.tsobject.TypeScriptClass",
-		"io.github.bitfist.jcef.spring.tsobject.TypeScriptService"
+		"io.github.bitfist.jcef.spring.tsobject.TypeScriptService",
+		"io.github.bitfist.jcef.spring.tsobject.TypeScriptState"
 })
 @SupportedOptions({
 		TypeScriptProcessor.JCEF_OUTPUT_PATH_OPTION,
@@ -97,6 +99,13 @@ public class TypeScriptProcessor extends AbstractProcessor {
 			}
 		}
 
+		// Process @TypeScriptState annotations
+		for (Element element : roundEnv.getElementsAnnotatedWith(TypeScriptState.class)) {
+			if (element.getKind() == ElementKind.CLASS) {
+				modelGenerator.processState((TypeElement) element);
+			}
+		}
+
 		// Process @TypeScriptService annotations
 		for (Element element : roundEnv.getElementsAnnotatedWith(TypeScriptService.class)) {
 			if (element.getKind() == ElementKind.CLASS) {
@@ -133,6 +142,7 @@ public class TypeScriptProcessor extends AbstractProcessor {
 		var classGenerator = new TypeScriptClassGenerator();
 		var enumGenerator = new TypeScriptEnumGenerator();
 		var serviceGenerator = new TypeScriptServiceGenerator();
+		var stateGenerator = new TypeScriptStateGenerator();
 
 		for (TSClass tsClass : classModel.values()) {
 			try {
@@ -140,6 +150,7 @@ public class TypeScriptProcessor extends AbstractProcessor {
 					case CLASS -> classGenerator.generate(tsClass, classModel);
 					case ENUM -> enumGenerator.generate(tsClass);
 					case SERVICE -> serviceGenerator.generate(tsClass, classModel);
+					case STATE -> stateGenerator.generate(tsClass);
 				};
 
 				writeFile(tsClass, content);
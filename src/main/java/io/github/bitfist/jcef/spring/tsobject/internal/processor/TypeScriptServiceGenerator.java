@@ -15,7 +15,7 @@ class TypeScriptServiceGenerator {
 		buffer.append("/** AUTO-GENERATED by JCEF TypeScriptObjectProcessor – DO NOT EDIT **/\n\n");
 
 		// Import CefCommunicationService from jcef folder
-		var cefServicePath = calculatePathToJcef(tsClass.getOutputPath());
+		var cefServicePath = PathUtils.calculatePathToJcef(tsClass.getOutputPath());
 		buffer.append("import { CefCommunicationService } from '").append(cefServicePath).append("CefCommunicationService';\n");
 		buffer.append("import type { ResponseType } from '").append(cefServicePath).append("ResponseType';\n");
 
@@ -146,14 +146,4 @@ class TypeScriptServiceGenerator {
 		}
 		return null;
 	}
-
-	private String calculatePathToJcef(String fromPath) {
-		if (fromPath.isEmpty()) {
-			return "./jcef/";
-		}
-
-		var parts = fromPath.split("/");
-
-		return "../".repeat(parts.length) + "jcef/";
-	}
 }
\ No newline at end of file
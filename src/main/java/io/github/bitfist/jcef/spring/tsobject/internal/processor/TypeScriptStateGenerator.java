@@ -0,0 +1,24 @@
+package io.github.bitfist.jcef.spring.tsobject.internal.processor;
+
+import java.util.Objects;
+
+class TypeScriptStateGenerator {
+
+	public String generate(TSClass tsClass) {
+		var stateType = Objects.requireNonNull(tsClass.getStateType(), "State type");
+		var buffer = new StringBuilder();
+
+		// Header comment
+		buffer.append("/** AUTO-GENERATED by JCEF TypeScriptProcessor – DO NOT EDIT **/\n\n");
+
+		buffer.append("import { CefStateStore } from '").append(PathUtils.calculatePathToJcef(tsClass.getOutputPath())).append("CefStateStore';\n");
+		var importPath = PathUtils.calculateRelativePath(tsClass.getOutputPath(), stateType.getOutputPath(), stateType.getTsClassName());
+		buffer.append("import type { ").append(stateType.getTsClassName()).append(" } from '").append(importPath).append("';\n\n");
+
+		buffer.append("export const ").append(tsClass.getTsClassName())
+				.append(" = new CefStateStore<").append(stateType.getTsClassName()).append(">('")
+				.append(tsClass.getStateName()).append("');\n");
+
+		return buffer.toString();
+	}
+}
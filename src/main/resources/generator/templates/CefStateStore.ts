@@ -0,0 +1,90 @@
+/** AUTO-GENERATED by JCEF TypeScriptObjectProcessor – DO NOT EDIT **/
+import {JsonPatch, type JsonPatchOperation} from './JsonPatch';
+
+type StateFrame<T> =
+    | { type: 'snapshot'; version: number; value: T }
+    | { type: 'patch'; baseVersion: number; version: number; patch: JsonPatchOperation[] };
+
+export type StateListener<T> = (value: T) => void;
+
+/**
+ * Mirrors an observable state of the Java side. Only deltas against the store's version cross the bridge; when a
+ * delta does not match that version the store resubscribes for a full snapshot.
+ */
+export class CefStateStore<T> {
+    private readonly listeners = new Set<StateListener<T>>();
+    private value?: T;
+    private version = -1;
+    private requestId?: number;
+
+    constructor(private readonly name: string) {
+    }
+
+    get current(): T | undefined {
+        return this.value;
+    }
+
+    get currentVersion(): number {
+        return this.version;
+    }
+
+    /**
+     * Registers a listener, which immediately receives the current value if there is one.
+     * @returns A function removing the listener. The subscription is closed once no listener is left.
+     */
+    subscribe(listener: StateListener<T>): () => void {
+        this.listeners.add(listener);
+        if (this.version >= 0) {
+            listener(this.value as T);
+        }
+        if (this.requestId === undefined) {
+            this.connect();
+        }
+        return () => {
+            this.listeners.delete(listener);
+            if (this.listeners.size === 0) {
+                this.disconnect();
+            }
+        };
+    }
+
+    private connect(): void {
+        if (typeof window.cefQuery !== 'function') {
+            console.warn(`State '${this.name}' is only available inside the JCEF browser.`);
+            return;
+        }
+        this.requestId = window.cefQuery({
+            request: JSON.stringify({state: this.name, version: this.version}),
+            persistent: true,
+            onSuccess: payload => this.receive(JSON.parse(payload) as StateFrame<T>),
+            onFailure: (errorCode, errorMessage) => {
+                this.requestId = undefined;
+                console.error(`Subscription to state '${this.name}' failed: [${errorCode}] ${errorMessage}`);
+            },
+        });
+    }
+
+    private disconnect(): void {
+        if (this.requestId !== undefined) {
+            window.cefQueryCancel?.(this.requestId);
+            this.requestId = undefined;
+        }
+    }
+
+    private receive(frame: StateFrame<T>): void {
+        if (frame.type === 'snapshot') {
+            this.value = frame.value;
+        } else if (frame.baseVersion === this.version) {
+            this.value = JsonPatch.apply(this.value as T, frame.patch);
+        } else {
+            // Version gap, start over with a full snapshot
+            this.disconnect();
+            this.version = -1;
+            this.connect();
+            return;
+        }
+        this.version = frame.version;
+        const value = this.value as T;
+        this.listeners.forEach(listener => listener(value));
+    }
+}
@@ -0,0 +1,34 @@
+/** AUTO-GENERATED by JCEF TypeScriptObjectProcessor – DO NOT EDIT **/
+
+export type Unsubscribe = () => void;
+
+export class CefTopicService {
+    /**
+     * Subscribes to a topic published by the Java side. The callback immediately receives the latest published
+     * value, afterwards at most one value per delivery interval.
+     * @returns A function closing the subscription.
+     */
+    static subscribe<T>(
+        topic: string,
+        onValue: (value: T) => void,
+        onError?: (errorCode: number, errorMessage: string) => void
+    ): Unsubscribe {
+        if (typeof window.cefQuery !== 'function') {
+            console.warn(`Topic '${topic}' is only available inside the JCEF browser.`);
+            return () => {};
+        }
+        const requestId = window.cefQuery({
+            request: JSON.stringify({subscribe: topic}),
+            persistent: true,
+            onSuccess: payload => onValue(JSON.parse(payload) as T),
+            onFailure: (errorCode, errorMessage) => {
+                if (onError) {
+                    onError(errorCode, errorMessage);
+                } else {
+                    console.error(`Subscription to topic '${topic}' failed: [${errorCode}] ${errorMessage}`);
+                }
+            },
+        });
+        return () => window.cefQueryCancel?.(requestId);
+    }
+}
@@ -0,0 +1,64 @@
+/** AUTO-GENERATED by JCEF TypeScriptObjectProcessor – DO NOT EDIT **/
+
+export type JsonPatchOperation = {
+    op: 'add' | 'remove' | 'replace';
+    path: string;
+    value?: unknown;
+};
+
+/**
+ * Applies the RFC 6902 operations produced by the Java side. Containers along a changed path are copied, all other
+ * parts of the document are shared with the previous version.
+ */
+export class JsonPatch {
+    static apply<T>(document: T, operations: JsonPatchOperation[]): T {
+        let result: unknown = document;
+        for (const operation of operations) {
+            result = JsonPatch.applyOperation(result, operation);
+        }
+        return result as T;
+    }
+
+    private static applyOperation(document: unknown, operation: JsonPatchOperation): unknown {
+        const tokens = JsonPatch.parsePath(operation.path);
+        if (tokens.length === 0) {
+            return operation.op === 'remove' ? undefined : operation.value;
+        }
+        return JsonPatch.update(document, tokens, 0, operation);
+    }
+
+    private static update(node: any, tokens: string[], index: number, operation: JsonPatchOperation): any {
+        const token = tokens[index];
+        const last = index === tokens.length - 1;
+        if (Array.isArray(node)) {
+            const copy = node.slice();
+            const position = token === '-' ? copy.length : Number(token);
+            if (!last) {
+                copy[position] = JsonPatch.update(copy[position], tokens, index + 1, operation);
+            } else if (operation.op === 'add') {
+                copy.splice(position, 0, operation.value);
+            } else if (operation.op === 'remove') {
+                copy.splice(position, 1);
+            } else {
+                copy[position] = operation.value;
+            }
+            return copy;
+        }
+        const copy = {...node};
+        if (!last) {
+            copy[token] = JsonPatch.update(copy[token], tokens, index + 1, operation);
+        } else if (operation.op === 'remove') {
+            delete copy[token];
+        } else {
+            copy[token] = operation.value;
+        }
+        return copy;
+    }
+
+    private static parsePath(path: string): string[] {
+        if (path === '') {
+            return [];
+        }
+        return path.substring(1).split('/').map(token => token.replace(/~1/g, '/').replace(/~0/g, '~'));
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.bitfist.jcef.spring.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class SingleInstanceGuardTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("🔒 should let only one instance take the lock until it is closed")
+	void allowsSingleInstance() throws Exception {
+		try (var guard = SingleInstanceGuard.tryAcquire(directory)) {
+			assertThat(guard).isNotNull();
+			assertThat(SingleInstanceGuard.tryAcquire(directory)).isNull();
+		}
+
+		try (var guard = SingleInstanceGuard.tryAcquire(directory)) {
+			assertThat(guard).isNotNull();
+		}
+	}
+
+	@Test
+	@DisplayName("📨 should publish forwarded arguments once the application is ready")
+	void publishesForwardedArguments() throws Exception {
+		var context = mock(ConfigurableApplicationContext.class);
+		try (var guard = SingleInstanceGuard.tryAcquire(directory)) {
+			assertThat(guard).isNotNull();
+
+			SingleInstanceGuard.forward(directory, new String[]{"--open", "report.pdf"});
+			Thread.sleep(Duration.ofMillis(200));
+			verifyNoInteractions(context);
+
+			guard.onApplicationEvent(new ApplicationReadyEvent(mock(SpringApplication.class), new String[0], context, Duration.ZERO));
+			verify(context, timeout(1000)).publishEvent(new InstanceLaunchedEvent(List.of("--open", "report.pdf")));
+
+			SingleInstanceGuard.forward(directory, new String[]{"second"});
+			verify(context, timeout(1000)).publishEvent(new InstanceLaunchedEvent(List.of("second")));
+		}
+	}
+
+	@Test
+	@DisplayName("👶 should keep the lock when a child context closes")
+	void ignoresChildContexts() throws Exception {
+		var context = mock(ConfigurableApplicationContext.class);
+		var child = mock(ConfigurableApplicationContext.class);
+		try (var guard = SingleInstanceGuard.tryAcquire(directory)) {
+			assertThat(guard).isNotNull();
+			guard.onApplicationEvent(new ApplicationReadyEvent(mock(SpringApplication.class), new String[0], context, Duration.ZERO));
+			guard.onApplicationEvent(new ApplicationReadyEvent(mock(SpringApplication.class), new String[0], child, Duration.ZERO));
+
+			guard.onApplicationEvent(new ContextClosedEvent(child));
+			assertThat(SingleInstanceGuard.tryAcquire(directory)).isNull();
+
+			SingleInstanceGuard.forward(directory, new String[]{"again"});
+			verify(context, timeout(1000)).publishEvent(new InstanceLaunchedEvent(List.of("again")));
+			verifyNoInteractions(child);
+
+			guard.onApplicationEvent(new ContextClosedEvent(context));
+		}
+		try (var guard = SingleInstanceGuard.tryAcquire(directory)) {
+			assertThat(guard).isNotNull();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package io.github.bitfist.jcef.spring.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupPhaseTest {
+
+	@Test
+	@DisplayName("📊 should record the phase with its tags as startup step")
+	void recordsStartupStep() {
+		var applicationStartup = new BufferingApplicationStartup(4);
+
+		try (var phase = StartupPhase.start(applicationStartup, "jcef.test")) {
+			phase.tag("files", 3);
+		}
+
+		var events = applicationStartup.getBufferedTimeline().getEvents();
+		assertThat(events).hasSize(1);
+		var step = events.getFirst().getStartupStep();
+		assertThat(step.getName()).isEqualTo("jcef.test");
+		assertThat(step.getTags()).singleElement().satisfies(tag -> {
+			assertThat(tag.getKey()).isEqualTo("files");
+			assertThat(tag.getValue()).isEqualTo("3");
+		});
+	}
+
+	@Test
+	@DisplayName("🧵 should keep detached phases out of the startup timeline")
+	void detachedPhaseIsNotRecordedAsStartupStep() {
+		var applicationStartup = new BufferingApplicationStartup(4);
+
+		try (var refresh = StartupPhase.start(applicationStartup, "jcef.refresh");
+			 var detached = StartupPhase.detached("jcef.background")) {
+			detached.tag("files", 3);
+			try (var ignored = StartupPhase.start(applicationStartup, "jcef.child")) {
+				// Opened while the detached phase is still running
+			}
+		}
+
+		var steps = applicationStartup.getBufferedTimeline().getEvents().stream()
+				.map(event -> event.getStartupStep())
+				.toList();
+		assertThat(steps).extracting(step -> step.getName()).containsExactlyInAnyOrder("jcef.refresh", "jcef.child");
+		var refresh = steps.stream().filter(step -> step.getName().equals("jcef.refresh")).findFirst().orElseThrow();
+		var child = steps.stream().filter(step -> step.getName().equals("jcef.child")).findFirst().orElseThrow();
+		assertThat(child.getParentId()).isEqualTo(refresh.getId());
+	}
+}
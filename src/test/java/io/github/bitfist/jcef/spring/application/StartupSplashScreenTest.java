@@ -0,0 +1,45 @@
+package io.github.bitfist.jcef.spring.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+import java.awt.GraphicsEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class StartupSplashScreenTest {
+
+	private final StartupSplashScreen splashScreen = new StartupSplashScreen();
+
+	@Test
+	@DisplayName("🙈 should ignore a splash screen missing from the classpath")
+	void ignoresMissingResource() throws Exception {
+		splashScreen.show("missing.png", getClass().getClassLoader());
+		SwingUtilities.invokeAndWait(() -> {
+		});
+
+		assertThat(splashScreen.getWindow()).isNull();
+	}
+
+	@Test
+	@DisplayName("🤝 should close the splash screen once another window opens")
+	void closesWhenAnotherWindowOpens() throws Exception {
+		assumeThat(GraphicsEnvironment.isHeadless()).isFalse();
+		splashScreen.show("empty.png", getClass().getClassLoader());
+		SwingUtilities.invokeAndWait(() -> assertThat(splashScreen.getWindow()).isNotNull());
+
+		var frame = new JFrame();
+		try {
+			SwingUtilities.invokeAndWait(() -> frame.setVisible(true));
+			SwingUtilities.invokeAndWait(() -> {
+			});
+
+			SwingUtilities.invokeAndWait(() -> assertThat(splashScreen.getWindow()).isNull());
+		} finally {
+			SwingUtilities.invokeAndWait(frame::dispose);
+		}
+	}
+}
@@ -9,7 +9,7 @@ class DevelopmentConfigurationPropertiesTest {
 
 	@Test
 	void returnsDefaultUriOnNull() {
-		var target = new DevelopmentConfigurationProperties(1234, true, true, null);
+		var target = new DevelopmentConfigurationProperties(1234, true, true, null, false);
 
 		assertNotNull(target.getFrontendUri());
 		assertEquals(DevelopmentConfigurationProperties.DEFAULT_FRONTEND_URL, target.getFrontendUri());
@@ -1,6 +1,7 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
 import io.github.bitfist.jcef.spring.application.JcefApplicationProperties;
+import io.github.bitfist.jcef.spring.browser.BrowserProperties;
 import io.github.bitfist.jcef.spring.browser.CefApplicationCustomizer;
 import io.github.bitfist.jcef.spring.browser.CefBrowserCustomizer;
 import io.github.bitfist.jcef.spring.browser.CefBrowserFrameCustomizer;
@@ -16,6 +17,7 @@ import org.cef.CefClient;
 import org.cef.CefSettings;
 import org.cef.browser.CefBrowser;
 import org.cef.browser.CefMessageRouter;
+import org.cef.handler.CefLoadHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -27,7 +29,10 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -50,6 +55,8 @@ import static org.mockito.Mockito.when;
 @DisplayName("🖥️ BrowserAutoConfiguration Tests")
 class BrowserAutoConfigurationTest {
 
+	private static final BrowserRendering WINDOWED = new BrowserRendering(new BrowserProperties.Windowless());
+
 	@Mock
 	private JcefApplicationProperties applicationProperties;
 
@@ -85,7 +92,7 @@ class BrowserAutoConfigurationTest {
 			List<CefBrowserFrameCustomizer> customizers = Collections.emptyList();
 
 			// When
-			var browserStarter = browserAutoConfiguration.browserStarter(mockCefApp, mockCefBrowser, customizers);
+			var browserStarter = browserAutoConfiguration.browserStarter(mockCefApp, mockCefBrowser, customizers, new BrowserProperties(), mock(ApplicationEventPublisher.class));
 
 			// Then
 			assertThat(browserStarter).isNotNull();
@@ -150,7 +157,7 @@ class BrowserAutoConfigurationTest {
 					})) {
 
 				// When
-				var createdCefApp = browserAutoConfiguration.cefApp(mockApplicationContext, mockSplashScreen, customizers);
+				var createdCefApp = browserAutoConfiguration.cefApp(mockApplicationContext, ApplicationStartup.DEFAULT, WINDOWED, mock(CefCacheManager.class), mock(BundleInstaller.class), mockSplashScreen, customizers);
 
 				// Then
 				assertThat(createdCefApp).isEqualTo(mockCefApp);
@@ -158,7 +165,7 @@ class BrowserAutoConfigurationTest {
 				// Verify interactions with the mocked builder
 				var builder = mockedBuilder.constructed().getFirst();
 				verify(builder).setInstallDir(mockPath.toFile());
-				verify(builder).setProgressHandler(mockSplashScreen);
+				verify(builder).setProgressHandler(any(StartupRecordingProgressHandler.class));
 				verify(builder).setAppHandler(any(MavenCefAppHandlerAdapter.class));
 				verify(mockCustomizer).accept(builder);
 				verify(builder).build();
@@ -181,7 +188,7 @@ class BrowserAutoConfigurationTest {
 
 				// When & Then
 				assertThrows(RuntimeException.class, () -> {
-					browserAutoConfiguration.cefApp(mockApplicationContext, mockSplashScreen, Collections.emptyList());
+					browserAutoConfiguration.cefApp(mockApplicationContext, ApplicationStartup.DEFAULT, WINDOWED, mock(CefCacheManager.class), mock(BundleInstaller.class), mockSplashScreen, Collections.emptyList());
 				});
 			}
 		}
@@ -202,14 +209,24 @@ class BrowserAutoConfigurationTest {
 				CefClientCustomizer mockCustomizer = mock(CefClientCustomizer.class);
 				var customizers = Collections.singletonList(mockCustomizer);
 
+				var beanFactory = new DefaultListableBeanFactory();
+				beanFactory.registerSingleton("loadHandler", mock(CefLoadHandler.class));
+				beanFactory.registerSingleton("cefClient", mock(CefClient.class));
+
 				// When
-				var createdClient = browserAutoConfiguration.cefClient(mockCefApp, cefQueryHandler, customizers);
+				var clientFactory = browserAutoConfiguration.cefClientFactory(mockCefApp, cefQueryHandler, List.of(), new QueryGate(), beanFactory, customizers, new BrowserScope());
+				var createdClient = browserAutoConfiguration.cefClient(ApplicationStartup.DEFAULT, clientFactory);
 
 				// Then
 				assertThat(createdClient).isEqualTo(mockCefClient);
 				verify(mockCefApp).createClient();
+				verify(mockCefClient).addLoadHandler(any(CompositeCefLoadHandler.class));
+				verify(mockCefClient).addLifeSpanHandler(any(CompositeCefLifeSpanHandler.class));
 				verify(mockCustomizer).accept(mockCefClient);
 				verify(cefMessageRouter).addHandler(any(DefaultCefMessageRouter.class), eq(true));
+
+				clientFactory.dispose(createdClient);
+				verify(mockCefClient).dispose();
 			}
 		}
 
@@ -222,14 +239,15 @@ class BrowserAutoConfigurationTest {
 			Path mockUiPath = Paths.get("test/ui");
 			var expectedFile = mockUiPath.resolve("index.html").toAbsolutePath();
 
-			when(applicationProperties.getUiInstallationPath()).thenReturn(mockUiPath);
+			UIInstaller uiInstaller = mock(UIInstaller.class);
+			when(uiInstaller.getUiPath()).thenReturn(mockUiPath);
 			when(mockCefClient.createBrowser(anyString(), anyBoolean(), anyBoolean())).thenReturn(mockCefBrowser);
 
 			CefBrowserCustomizer mockCustomizer = mock(CefBrowserCustomizer.class);
 			var customizers = Collections.singletonList(mockCustomizer);
 
 			// When
-			var createdBrowser = browserAutoConfiguration.cefBrowser(mockCefClient, customizers);
+			var createdBrowser = browserAutoConfiguration.cefBrowser(ApplicationStartup.DEFAULT, mockCefClient, uiInstaller, WINDOWED, mock(FirstLoadRecorder.class), customizers);
 
 			// Then
 			assertThat(createdBrowser).isEqualTo(mockCefBrowser);
@@ -251,7 +269,7 @@ class BrowserAutoConfigurationTest {
 			when(developmentProperties.isEnableWebCommunication()).thenReturn(true);
 
 			// When
-			var createdBrowser = browserAutoConfiguration.cefBrowser(mockCefClient, Collections.singletonList(mockCustomizer));
+			var createdBrowser = browserAutoConfiguration.cefBrowser(ApplicationStartup.DEFAULT, mockCefClient, mock(UIInstaller.class), WINDOWED, mock(FirstLoadRecorder.class), Collections.singletonList(mockCustomizer));
 
 			// Then
 			assertThat(createdBrowser).isEqualTo(mockCefBrowser);
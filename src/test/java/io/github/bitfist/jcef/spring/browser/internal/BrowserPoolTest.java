@@ -0,0 +1,122 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserProperties;
+import io.github.bitfist.jcef.spring.swing.SwingExecutor;
+import org.cef.CefClient;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BrowserPoolTest {
+
+	private static final String SHELL_URL = "file:///ui/index.html";
+
+	private final CefClientFactory clientFactory = mock(CefClientFactory.class);
+	private final CefClient client = mock(CefClient.class);
+	private final CefFrame mainFrame = mock(CefFrame.class);
+	private final BrowserLoadTracker loadTracker = new BrowserLoadTracker();
+	private final SwingExecutor swingExecutor = mock(SwingExecutor.class);
+	private final BrowserPool pool = new BrowserPool(clientFactory, SHELL_URL, 1, loadTracker, new BrowserScope(), new BrowserRendering(new BrowserProperties.Windowless()), swingExecutor, List.of());
+
+	@BeforeEach
+	void setUp() {
+		when(mainFrame.isMain()).thenReturn(true);
+		when(clientFactory.create(anyString())).thenReturn(client);
+		when(client.createBrowser(anyString(), anyBoolean(), anyBoolean())).thenAnswer(invocation -> {
+			var browser = mock(CefBrowser.class);
+			when(browser.getClient()).thenReturn(client);
+			return browser;
+		});
+	}
+
+	@Test
+	@DisplayName("🔥 should prewarm browsers that start loading immediately")
+	void prewarmsBrowsers() {
+		pool.prewarm();
+		pool.prewarm();
+
+		assertThat(pool.idleCount()).isEqualTo(1);
+		verify(clientFactory, times(1)).create("window-1");
+		verify(client, times(1)).createBrowser(SHELL_URL, false, false);
+	}
+
+	@Test
+	@DisplayName("🧭 should hand out a pooled browser and assign the route once the shell is loaded")
+	void opensWithPooledBrowser() {
+		pool.prewarm();
+
+		var window = pool.open("/orders/42");
+		var browser = ((PooledBrowserWindow) window).getCefBrowser();
+		verify(browser).createImmediately();
+		verify(browser, never()).executeJavaScript(anyString(), anyString(), eq(0));
+		assertThat(pool.idleCount()).isZero();
+		assertThat(window.getRoute()).isEqualTo("/orders/42");
+
+		loadTracker.onLoadEnd(browser, mainFrame, 200);
+
+		verify(browser).executeJavaScript("window.location.hash = \"/orders/42\";", SHELL_URL, 0);
+	}
+
+	@Test
+	@DisplayName("♻️ should recycle released browsers up to the pool size and close the rest")
+	void recyclesReleasedBrowsers() {
+		var first = mock(CefBrowser.class);
+		var second = mock(CefBrowser.class);
+		when(second.getClient()).thenReturn(client);
+
+		pool.release(first);
+		pool.release(second);
+
+		verify(first).loadURL(SHELL_URL);
+		verify(clientFactory).dispose(client);
+		assertThat(pool.idleCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("⏳ should only hand out a released browser once it navigates to the shell")
+	void recyclesAfterNavigating() {
+		var released = mock(CefBrowser.class);
+		doAnswer(invocation -> {
+			assertThat(pool.idleCount()).isZero();
+			return null;
+		}).when(released).loadURL(SHELL_URL);
+
+		pool.release(released);
+
+		verify(released).loadURL(SHELL_URL);
+		assertThat(pool.idleCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("❌ should close idle browsers and reject windows once closed")
+	void closesIdleBrowsers() {
+		pool.prewarm();
+		var window = pool.open("/");
+		var idleClient = mock(CefClient.class);
+		var idle = mock(CefBrowser.class);
+		when(idle.getClient()).thenReturn(idleClient);
+		pool.release(idle);
+
+		pool.close();
+
+		verify(clientFactory).dispose(idleClient);
+		verify(clientFactory, never()).dispose(client);
+		assertThatThrownBy(() -> pool.open("/")).isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.CefQueryContext;
+import org.cef.browser.CefBrowser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectFactory;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BrowserScopeTest {
+
+	private final BrowserScope scope = new BrowserScope();
+	private final ObjectFactory<Object> objectFactory = Object::new;
+
+	@Test
+	@DisplayName("🪟 should create one instance per browser")
+	void createsInstancePerBrowser() {
+		var first = browser(1);
+		var second = browser(2);
+
+		var firstBean = get(first);
+
+		assertThat(get(first)).isSameAs(firstBean);
+		assertThat(get(second)).isNotSameAs(firstBean);
+	}
+
+	@Test
+	@DisplayName("🗑 should destroy the beans of a closed browser")
+	void destroysBeansOfClosedBrowser() {
+		var browser = browser(1);
+		var destroyed = new ArrayList<String>();
+		var firstBean = get(browser);
+		CefQueryContext.runWith(browser, () -> scope.registerDestructionCallback("bean", () -> destroyed.add("bean")));
+
+		scope.destroy(browser);
+
+		assertThat(destroyed).containsExactly("bean");
+		assertThat(get(browser)).isNotSameAs(firstBean);
+	}
+
+	@Test
+	@DisplayName("🚫 should reject access outside of a query")
+	void rejectsAccessOutsideQuery() {
+		assertThatThrownBy(() -> scope.get("bean", objectFactory)).isInstanceOf(IllegalStateException.class);
+	}
+
+	private Object get(CefBrowser browser) {
+		var bean = new AtomicReference<>();
+		CefQueryContext.runWith(browser, () -> bean.set(scope.get("bean", objectFactory)));
+		return bean.get();
+	}
+
+	private static CefBrowser browser(int identifier) {
+		var browser = mock(CefBrowser.class);
+		when(browser.getIdentifier()).thenReturn(identifier);
+		return browser;
+	}
+}
@@ -0,0 +1,48 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserProperties;
+import io.github.bitfist.jcef.spring.browser.BrowserVisibilityChangedEvent;
+import org.cef.CefApp;
+import org.cef.browser.CefBrowser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BrowserStarterTest {
+
+	private final CefBrowser cefBrowser = mock(CefBrowser.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final BrowserStarter starter = new BrowserStarter(mock(CefApp.class), cefBrowser, List.of(), new BrowserProperties(), eventPublisher, false);
+
+	@Test
+	@DisplayName("🙈 should tell the browser and publish an event when the window is hidden")
+	void hidesBrowser() {
+		starter.visibilityChanged(false);
+
+		verify(cefBrowser).setWindowVisibility(false);
+		verify(cefBrowser).wasHidden(true);
+		verify(eventPublisher).publishEvent(new BrowserVisibilityChangedEvent(cefBrowser, false));
+	}
+
+	@Test
+	@DisplayName("👁 should only react to actual visibility changes")
+	void ignoresUnchangedVisibility() {
+		starter.visibilityChanged(true);
+		starter.visibilityChanged(false);
+		starter.visibilityChanged(false);
+		starter.visibilityChanged(true);
+
+		verify(cefBrowser).wasHidden(true);
+		verify(cefBrowser).wasHidden(false);
+		verify(cefBrowser).setWindowVisibility(true);
+		verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+		verify(eventPublisher).publishEvent(new BrowserVisibilityChangedEvent(cefBrowser, true));
+	}
+}
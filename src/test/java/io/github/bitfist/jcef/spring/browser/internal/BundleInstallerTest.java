@@ -0,0 +1,169 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import me.friwi.jcefmaven.IProgressHandler;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class BundleInstallerTest {
+
+	@TempDir
+	private Path directory;
+
+	private final IProgressHandler progressHandler = mock(IProgressHandler.class);
+
+	@Test
+	@DisplayName("📦 should install the archive once and skip it on later starts")
+	void installsOnce() throws Exception {
+		var archive = directory.resolve("jcef.tar.gz");
+		Files.write(archive, tarGz());
+		var installation = directory.resolve("bundle");
+
+		var installed = new BundleInstaller(installation, new FileSystemResource(archive), sha256(archive)).install(progressHandler);
+
+		assertThat(installed).isTrue();
+		assertThat(installation.resolve("build_meta.json")).hasContent("{}");
+		assertThat(installation.resolve("lib/libcef.so")).hasContent("native");
+		assertThat(installation.resolve(BundleInstaller.INSTALL_LOCK)).exists();
+		assertThat(Files.isExecutable(installation.resolve("jcef_helper"))).isTrue();
+
+		var resource = spy(new FileSystemResource(archive));
+		var installedAgain = new BundleInstaller(installation, resource, sha256(archive)).install(progressHandler);
+
+		assertThat(installedAgain).isFalse();
+		verify(resource, never()).getInputStream();
+	}
+
+	@Test
+	@DisplayName("🔐 should reject an archive not matching the checksum")
+	void rejectsChecksumMismatch() throws Exception {
+		var archive = directory.resolve("jcef.tar.gz");
+		Files.write(archive, tarGz());
+		var installation = directory.resolve("bundle");
+		var installer = new BundleInstaller(installation, new FileSystemResource(archive), "00");
+
+		assertThatThrownBy(() -> installer.install(progressHandler)).isInstanceOf(IllegalStateException.class);
+		assertThat(installation).doesNotExist();
+		try (var files = Files.list(directory)) {
+			assertThat(files).containsExactly(archive);
+		}
+	}
+
+	@Test
+	@DisplayName("🫙 should unwrap the tar.gz of a natives artifact")
+	void unwrapsNativesArtifact() throws Exception {
+		var archive = directory.resolve("jcef-natives-linux-amd64.jar");
+		try (var zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+			zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+			zip.closeEntry();
+			zip.putNextEntry(new ZipEntry("jcef-natives-linux-amd64.tar.gz"));
+			zip.write(tarGz());
+			zip.closeEntry();
+		}
+		var installation = directory.resolve("bundle");
+
+		new BundleInstaller(installation, new FileSystemResource(archive), null).install(progressHandler);
+
+		assertThat(installation.resolve("lib/libcef.so")).hasContent("native");
+	}
+
+	@Test
+	@DisplayName("🔗 should reject symbolic links pointing outside of the installation")
+	void rejectsEscapingLinks() throws Exception {
+		var archive = directory.resolve("jcef.tar.gz");
+		Files.write(archive, tarGz(tar -> addLink(tar, "lib/escape", "../../..")));
+		var installation = directory.resolve("bundle");
+		var installer = new BundleInstaller(installation, new FileSystemResource(archive), null);
+
+		assertThatThrownBy(() -> installer.install(progressHandler)).isInstanceOf(IOException.class);
+		assertThat(installation).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("🔗 should reject entries written through a symbolic link")
+	void rejectsWritesThroughLinks() throws Exception {
+		var archive = directory.resolve("jcef.tar.gz");
+		Files.write(archive, tarGz(tar -> {
+			addLink(tar, "a/b/root", "../..");
+			// Stays inside lexically, but the OS resolves "root" first and ends up next to the installation
+			addLink(tar, "a/b/escape", "root/..");
+			addFile(tar, "a/b/escape/outside.txt", "escaped", 0644);
+		}));
+		var installation = directory.resolve("bundle");
+		var installer = new BundleInstaller(installation, new FileSystemResource(archive), null);
+
+		assertThatThrownBy(() -> installer.install(progressHandler)).isInstanceOf(IOException.class);
+		assertThat(directory.resolve("outside.txt")).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("⚪ should leave the installation to JCEF Maven without an archive")
+	void skipsWithoutArchive() throws IOException {
+		assertThat(new BundleInstaller(directory.resolve("bundle"), null, null).install(progressHandler)).isFalse();
+	}
+
+	private static byte[] tarGz() throws IOException {
+		return tarGz(tar -> {
+		});
+	}
+
+	private static byte[] tarGz(TarContent additionalContent) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		try (var tar = new TarArchiveOutputStream(new GZIPOutputStream(bytes))) {
+			addFile(tar, "build_meta.json", "{}", 0644);
+			addFile(tar, "lib/libcef.so", "native", 0644);
+			addFile(tar, "jcef_helper", "#!/bin/sh", 0755);
+			additionalContent.addTo(tar);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void addLink(TarArchiveOutputStream tar, String name, String linkName) throws IOException {
+		var entry = new TarArchiveEntry(name, TarArchiveEntry.LF_SYMLINK);
+		entry.setLinkName(linkName);
+		tar.putArchiveEntry(entry);
+		tar.closeArchiveEntry();
+	}
+
+	private static void addFile(TarArchiveOutputStream tar, String name, String content, int mode) throws IOException {
+		var data = content.getBytes(StandardCharsets.UTF_8);
+		var entry = new TarArchiveEntry(name);
+		entry.setSize(data.length);
+		entry.setMode(mode);
+		tar.putArchiveEntry(entry);
+		tar.write(data);
+		tar.closeArchiveEntry();
+	}
+
+	private static String sha256(Path file) throws IOException, NoSuchAlgorithmException {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+	}
+
+	@FunctionalInterface
+	private interface TarContent {
+
+		void addTo(TarArchiveOutputStream tar) throws IOException;
+	}
+}
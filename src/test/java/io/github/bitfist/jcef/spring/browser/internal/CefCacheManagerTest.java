@@ -0,0 +1,102 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import io.github.bitfist.jcef.spring.browser.CefCacheType;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefDevToolsClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CefCacheManagerTest {
+
+	@TempDir
+	private Path dataPath;
+
+	@SuppressWarnings("unchecked")
+	private final ObjectProvider<CefBrowser> browserProvider = mock(ObjectProvider.class);
+
+	@Test
+	@DisplayName("✂️ should delete the least recently used cache directories below the budget")
+	void prunesOldestDirectories() throws IOException {
+		var oldest = cacheFile("Default/Cache/Cache_Data/f_000001", 400, 1);
+		var older = cacheFile("Default/Code Cache/js/entry", 400, 2);
+		var index = cacheFile("GPUCache/index", 10, 0);
+		var newest = cacheFile("GPUCache/data_1", 390, 3);
+		var serviceWorker = cacheFile("Default/Service Worker/CacheStorage/entry", 400, 0);
+		var cookies = cacheFile("Default/Cookies", 400, 0);
+		var manager = manager(DataSize.ofBytes(900));
+
+		manager.initialize();
+
+		assertThat(manager.getMeasuredSize()).isEqualTo(1600);
+		assertThat(oldest.getParent().getParent()).doesNotExist();
+		assertThat(older.getParent().getParent()).doesNotExist();
+		assertThat(index).exists();
+		assertThat(newest).exists();
+		assertThat(serviceWorker).exists();
+		assertThat(cookies).exists();
+	}
+
+	@Test
+	@DisplayName("🪶 should keep caches within the budget")
+	void keepsCachesWithinBudget() throws IOException {
+		var file = cacheFile("Default/Cache/Cache_Data/f_000001", 400, 1);
+		var manager = manager(DataSize.ofBytes(1000));
+
+		manager.initialize();
+		manager.awaitPruning();
+
+		assertThat(file).exists();
+	}
+
+	@Test
+	@DisplayName("🧹 should clear the HTTP cache right away and delete cleared caches on the next start")
+	void clearsCaches() throws IOException {
+		var browser = mock(CefBrowser.class);
+		var devTools = mock(CefDevToolsClient.class);
+		when(browserProvider.getIfAvailable()).thenReturn(browser);
+		when(browser.getDevToolsClient()).thenReturn(devTools);
+		var shaders = cacheFile("Default/GPUCache/data_0", 10, 1);
+		var code = cacheFile("Default/Code Cache/js/entry", 10, 1);
+		var serviceWorker = cacheFile("Default/Service Worker/CacheStorage/entry", 10, 1);
+
+		manager(null).clear(CefCacheType.HTTP, CefCacheType.GPU, CefCacheType.SERVICE_WORKER);
+
+		verify(devTools).executeDevToolsMethod("Network.clearBrowserCache", "{}");
+		assertThat(shaders).exists();
+
+		var nextStart = manager(null);
+		nextStart.initialize();
+		nextStart.awaitPruning();
+
+		assertThat(shaders).doesNotExist();
+		assertThat(serviceWorker).doesNotExist();
+		assertThat(code).exists();
+		assertThat(dataPath.resolve(CefCacheManager.PENDING_CLEAR_FILE)).doesNotExist();
+	}
+
+	private CefCacheManager manager(DataSize maxSize) {
+		return new CefCacheManager(dataPath, maxSize, true, browserProvider);
+	}
+
+	private Path cacheFile(String path, int size, long modifiedSecond) throws IOException {
+		var file = dataPath.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.write(file, new byte[size]);
+		Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(1_700_000_000L + modifiedSecond)));
+		return file;
+	}
+}
@@ -1,16 +1,25 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
+import io.github.bitfist.jcef.spring.browser.CefQueryContext;
 import io.github.bitfist.jcef.spring.browser.CefQueryHandler;
+import org.cef.browser.CefBrowser;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class CefQueryRestEndpointTest {
 
 	private final CefQueryHandler queryHandler = mock(CefQueryHandler.class);
 
-	private final CefQueryRestEndpoint endpoint = new CefQueryRestEndpoint(queryHandler);
+	@SuppressWarnings("unchecked")
+	private final ObjectProvider<CefBrowser> cefBrowser = mock(ObjectProvider.class);
+
+	private final CefQueryRestEndpoint endpoint = new CefQueryRestEndpoint(queryHandler, cefBrowser);
 
 	@Test
 	void shouldInvokeQueryHandler() {
@@ -23,4 +32,13 @@ class CefQueryRestEndpointTest {
 		verify(queryHandler).handleQuery(payload);
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("🧭 should handle requests as queries of the main browser")
+	void shouldUseMainBrowserAsQueryContext() {
+		var browser = mock(CefBrowser.class);
+		when(cefBrowser.getIfAvailable()).thenReturn(browser);
+		when(queryHandler.handleQuery("<payload>")).thenAnswer(invocation -> CefQueryContext.getBrowser() == browser ? "main" : "none");
+
+		assertThat(endpoint.invokeMethod("<payload>")).isEqualTo("main");
+	}
+}
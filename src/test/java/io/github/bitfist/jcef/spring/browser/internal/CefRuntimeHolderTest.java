@@ -0,0 +1,41 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.awt.Rectangle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class CefRuntimeHolderTest {
+
+	@Test
+	@DisplayName("♻️ should close the context of the latest restart once CEF terminates")
+	void closesLatestContext() {
+		var previous = mock(ConfigurableApplicationContext.class);
+		var current = mock(ConfigurableApplicationContext.class);
+
+		CefRuntimeHolder.setContext(previous);
+		CefRuntimeHolder.setContext(current);
+		CefRuntimeHolder.closeContext();
+		CefRuntimeHolder.closeContext();
+
+		verify(current).close();
+		verify(previous, never()).close();
+	}
+
+	@Test
+	@DisplayName("🪟 should keep a copy of the frame bounds")
+	void keepsFrameBounds() {
+		var bounds = new Rectangle(10, 20, 800, 600);
+
+		CefRuntimeHolder.setFrameBounds(bounds);
+		bounds.setSize(1, 1);
+
+		assertThat(CefRuntimeHolder.getFrameBounds()).contains(new Rectangle(10, 20, 800, 600));
+	}
+}
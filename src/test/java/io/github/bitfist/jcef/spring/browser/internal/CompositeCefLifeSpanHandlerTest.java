@@ -0,0 +1,63 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLifeSpanHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompositeCefLifeSpanHandlerTest {
+
+	private final CefBrowser browser = mock(CefBrowser.class);
+	private final CefFrame frame = mock(CefFrame.class);
+	private final CefLifeSpanHandler first = mock(CefLifeSpanHandler.class);
+	private final CefLifeSpanHandler second = mock(CefLifeSpanHandler.class);
+	private final CompositeCefLifeSpanHandler composite = new CompositeCefLifeSpanHandler(List.of(first, second));
+
+	@Test
+	@DisplayName("🔀 Dispatches every life span event to all handlers")
+	void dispatchesToAllHandlers() {
+		when(second.doClose(browser)).thenReturn(true);
+
+		composite.onAfterCreated(browser);
+		composite.onAfterParentChanged(browser);
+		var handled = composite.doClose(browser);
+		composite.onBeforeClose(browser);
+
+		assertThat(handled).isTrue();
+		for (var handler : List.of(first, second)) {
+			verify(handler).onAfterCreated(browser);
+			verify(handler).onAfterParentChanged(browser);
+			verify(handler).doClose(browser);
+			verify(handler).onBeforeClose(browser);
+		}
+	}
+
+	@Test
+	@DisplayName("🪟 The first handler canceling a popup wins")
+	void firstHandlerCancelsPopup() {
+		when(first.onBeforePopup(browser, frame, "https://example.com", "_blank")).thenReturn(true);
+
+		assertThat(composite.onBeforePopup(browser, frame, "https://example.com", "_blank")).isTrue();
+		verify(second, never()).onBeforePopup(browser, frame, "https://example.com", "_blank");
+	}
+
+	@Test
+	@DisplayName("🛡️ A failing handler does not prevent the others from being called")
+	void failingHandlerDoesNotStopDispatch() {
+		doThrow(new IllegalStateException("boom")).when(first).onBeforeClose(browser);
+
+		composite.onBeforeClose(browser);
+
+		verify(second).onBeforeClose(browser);
+	}
+}
@@ -0,0 +1,53 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.handler.CefLoadHandler;
+import org.cef.network.CefRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CompositeCefLoadHandlerTest {
+
+	private final CefBrowser browser = mock(CefBrowser.class);
+	private final CefFrame frame = mock(CefFrame.class);
+
+	@Test
+	@DisplayName("🔀 Dispatches every load event to all handlers")
+	void dispatchesToAllHandlers() {
+		var first = mock(CefLoadHandler.class);
+		var second = mock(CefLoadHandler.class);
+		var composite = new CompositeCefLoadHandler(List.of(first, second));
+
+		composite.onLoadingStateChange(browser, true, false, false);
+		composite.onLoadStart(browser, frame, CefRequest.TransitionType.TT_LINK);
+		composite.onLoadEnd(browser, frame, 200);
+		composite.onLoadError(browser, frame, CefLoadHandler.ErrorCode.ERR_FAILED, "failed", "http://localhost");
+
+		for (var handler : List.of(first, second)) {
+			verify(handler).onLoadingStateChange(browser, true, false, false);
+			verify(handler).onLoadStart(browser, frame, CefRequest.TransitionType.TT_LINK);
+			verify(handler).onLoadEnd(browser, frame, 200);
+			verify(handler).onLoadError(browser, frame, CefLoadHandler.ErrorCode.ERR_FAILED, "failed", "http://localhost");
+		}
+	}
+
+	@Test
+	@DisplayName("🛡️ A failing handler does not prevent the others from being called")
+	void failingHandlerDoesNotStopDispatch() {
+		var failing = mock(CefLoadHandler.class);
+		var healthy = mock(CefLoadHandler.class);
+		doThrow(new IllegalStateException("boom")).when(failing).onLoadEnd(browser, frame, 200);
+		var composite = new CompositeCefLoadHandler(List.of(failing, healthy));
+
+		composite.onLoadEnd(browser, frame, 200);
+
+		verify(healthy).onLoadEnd(browser, frame, 200);
+	}
+}
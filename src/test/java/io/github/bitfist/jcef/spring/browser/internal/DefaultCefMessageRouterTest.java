@@ -1,22 +1,35 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
+import io.github.bitfist.jcef.spring.browser.CefQueryContext;
 import io.github.bitfist.jcef.spring.browser.CefQueryException;
 import io.github.bitfist.jcef.spring.browser.CefQueryHandler;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import io.github.bitfist.jcef.spring.browser.CefSubscriptionHandler;
 import org.cef.browser.CefBrowser;
 import org.cef.browser.CefFrame;
 import org.cef.callback.CefQueryCallback;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -35,6 +48,9 @@ class DefaultCefMessageRouterTest {
 	@Mock
 	private CefQueryHandler messageHandler;
 
+	@Mock
+	private CefSubscriptionHandler subscriptionHandler;
+
 	@Mock
 	private CefBrowser browser;
 
@@ -44,10 +60,16 @@ class DefaultCefMessageRouterTest {
 	@Mock
 	private CefQueryCallback callback;
 
-	// The instance of the class we are testing, with mocks injected.
-	@InjectMocks
+	private final QueryGate queryGate = openGate();
+
+	// The instance of the class we are testing, dispatching directly on the calling thread.
 	private DefaultCefMessageRouter cefMessageRouter;
 
+	@BeforeEach
+	void setUp() {
+		cefMessageRouter = new DefaultCefMessageRouter(messageHandler, List.of(), queryGate, Runnable::run);
+	}
+
 	@Test
 	@DisplayName("✅ Success Path - Should handle query successfully and call callback.success")
 	void onQuery_whenHandlerSucceeds_shouldCallSuccess() throws CefQueryException {
@@ -113,4 +135,97 @@ class DefaultCefMessageRouterTest {
 		// 4. The method should always return true.
 		assertTrue(result, "The onQuery method should return true even when an unexpected error occurs.");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("📡 Persistent Query - Should open a subscription and push messages through the callback")
+	void onQuery_whenPersistentAndSubscribed_shouldKeepCallbackOpen() {
+		var router = new DefaultCefMessageRouter(messageHandler, List.of(subscriptionHandler), queryGate, Runnable::run);
+		var subscriptionId = new AtomicLong();
+		when(subscriptionHandler.subscribe(anyLong(), eq(TEST_REQUEST), any())).thenAnswer(invocation -> {
+			subscriptionId.set(invocation.getArgument(0));
+			assertThat(CefQueryContext.getBrowser()).isSameAs(browser);
+			invocation.getArgument(2, CefSubscription.class).send("frame");
+			return true;
+		});
+
+		var result = router.onQuery(browser, frame, QUERY_ID, TEST_REQUEST, true, callback);
+
+		assertTrue(result);
+		verify(callback).success("frame");
+		verifyNoInteractions(messageHandler);
+		assertThat(CefQueryContext.getBrowser()).isNull();
+
+		router.onQueryCanceled(browser, frame, QUERY_ID);
+
+		verify(subscriptionHandler).unsubscribe(subscriptionId.get());
+	}
+
+	@Test
+	@DisplayName("↩️ Persistent Query - Should fall back to the query handler if no subscription handler accepts it")
+	void onQuery_whenPersistentAndNotSubscribed_shouldUseQueryHandler() throws CefQueryException {
+		var router = new DefaultCefMessageRouter(messageHandler, List.of(subscriptionHandler), queryGate, Runnable::run);
+		when(subscriptionHandler.subscribe(anyLong(), eq(TEST_REQUEST), any())).thenReturn(false);
+		when(messageHandler.handleQuery(TEST_REQUEST)).thenReturn("result");
+
+		router.onQuery(browser, frame, QUERY_ID, TEST_REQUEST, true, callback);
+		router.onQueryCanceled(browser, frame, QUERY_ID);
+
+		verify(callback).success("result");
+		verify(subscriptionHandler, never()).unsubscribe(anyLong());
+	}
+
+	@Test
+	@DisplayName("🚧 Held Query - Should dispatch queries once the gate opens and drop canceled ones")
+	void onQuery_whenGateClosed_shouldHoldQueries() throws CefQueryException {
+		var gate = new QueryGate();
+		var router = new DefaultCefMessageRouter(messageHandler, List.of(subscriptionHandler), gate, Runnable::run);
+		when(messageHandler.handleQuery(TEST_REQUEST)).thenReturn("result");
+
+		assertTrue(router.onQuery(browser, frame, QUERY_ID, TEST_REQUEST, false, callback));
+		router.onQuery(browser, frame, QUERY_ID + 1, TEST_REQUEST, true, callback);
+		router.onQueryCanceled(browser, frame, QUERY_ID + 1);
+		verifyNoInteractions(messageHandler, callback);
+
+		gate.open();
+
+		verify(callback).success("result");
+		verifyNoInteractions(subscriptionHandler);
+	}
+
+	private static QueryGate openGate() {
+		var gate = new QueryGate();
+		gate.open();
+		return gate;
+	}
+
+	@Test
+	@DisplayName("🆔 Persistent Query - Should use ids unique across routers and end subscriptions on close")
+	void onQuery_whenRoutersShareHandlers_shouldUseUniqueSubscriptionIds() {
+		var first = new DefaultCefMessageRouter(messageHandler, List.of(subscriptionHandler), queryGate, Runnable::run);
+		var second = new DefaultCefMessageRouter(messageHandler, List.of(subscriptionHandler), queryGate, Runnable::run);
+		var subscriptionIds = new ArrayList<Long>();
+		when(subscriptionHandler.subscribe(anyLong(), eq(TEST_REQUEST), any())).thenAnswer(invocation -> subscriptionIds.add(invocation.getArgument(0)));
+
+		first.onQuery(browser, frame, QUERY_ID, TEST_REQUEST, true, callback);
+		second.onQuery(browser, frame, QUERY_ID, TEST_REQUEST, true, callback);
+		second.close();
+
+		assertThat(subscriptionIds).doesNotHaveDuplicates().hasSize(2);
+		verify(subscriptionHandler).unsubscribe(subscriptionIds.get(1));
+		verify(subscriptionHandler, never()).unsubscribe(subscriptionIds.get(0));
+	}
+
+	@Test
+	@DisplayName("🚪 Disposed Client - Should fail queries and ignore cancellations once the lane is shut down")
+	void onQuery_whenLaneIsShutDown_shouldFailQuery() {
+		var lane = Executors.newSingleThreadExecutor();
+		lane.shutdown();
+		var router = new DefaultCefMessageRouter(messageHandler, List.of(), queryGate, lane);
+
+		router.onQuery(browser, frame, QUERY_ID, TEST_REQUEST, PERSISTENT, callback);
+		router.onQueryCanceled(browser, frame, QUERY_ID);
+
+		verify(callback).failure(503, "Browser is closed");
+		verifyNoInteractions(messageHandler);
+	}
+}
@@ -1,23 +1,27 @@
 package io.github.bitfist.jcef.spring.browser.internal;
 
 import io.github.bitfist.jcef.spring.browser.CefApplicationCustomizer;
-import io.github.bitfist.jcef.spring.browser.CefClientCustomizer;
 import io.github.bitfist.jcef.spring.browser.CefQueryHandler;
 import io.github.bitfist.jcef.spring.browser.DevelopmentConfigurationProperties;
 import me.friwi.jcefmaven.CefAppBuilder;
 import org.cef.CefSettings;
 import org.cef.browser.CefBrowser;
+import org.cef.handler.CefLoadHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.web.servlet.config.annotation.CorsRegistration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 
+import javax.swing.SwingUtilities;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,19 +31,19 @@ class DevelopmentAutoConfigurationTest {
 			.withConfiguration(AutoConfigurations.of(DevelopmentAutoConfiguration.class));
 
 	@Test
-	@DisplayName("🐞 developerToolsCustomizer loads when show-developer-tools=true")
-	void developerToolsCustomizerLoaded() {
+	@DisplayName("🐞 developerToolsLoadHandler loads when show-developer-tools=true")
+	void developerToolsLoadHandlerLoaded() {
 		contextRunner
 				.withPropertyValues("jcef.development.show-developer-tools=true")
-				.run(context -> assertThat(context).hasSingleBean(CefClientCustomizer.class));
+				.run(context -> assertThat(context).hasSingleBean(CefLoadHandler.class));
 	}
 
 	@Test
-	@DisplayName("🚫 developerToolsCustomizer absent when show-developer-tools=false")
-	void developerToolsCustomizerNotLoaded() {
+	@DisplayName("🚫 developerToolsLoadHandler absent when show-developer-tools=false")
+	void developerToolsLoadHandlerNotLoaded() {
 		contextRunner
 				// no property set → bean should not be created
-				.run(context -> assertThat(context).doesNotHaveBean(CefClientCustomizer.class));
+				.run(context -> assertThat(context).doesNotHaveBean(CefLoadHandler.class));
 	}
 
 	@Test
@@ -54,7 +58,7 @@ class DevelopmentAutoConfigurationTest {
 	@Test
 	@DisplayName("🐞 corsConfigurer throws no exception")
 	void corsConfigurerDoesNotThrowException() {
-		var developmentProperties = new DevelopmentConfigurationProperties(123, true, true, "http://invalid.host:80");
+		var developmentProperties = new DevelopmentConfigurationProperties(123, true, true, "http://invalid.host:80", false);
 		var corsConfigurer = new DevelopmentAutoConfiguration.CorsConfiguration().corsConfigurer(developmentProperties);
 		var corsRegistry = mock(CorsRegistry.class);
 		var corsRegistration = mock(CorsRegistration.class);
@@ -84,28 +88,29 @@ class DevelopmentAutoConfigurationTest {
 	}
 
 	@Test
-	@DisplayName("🔍 developerToolsCustomizer registers a load handler")
-	void developerToolsCustomizerRegistersHandler() {
-		var cfg = new DevelopmentAutoConfiguration();
-		var customizer = cfg.developerToolsCustomizer();
-		var client = mock(org.cef.CefClient.class);
+	@DisplayName("🔍 developerToolsLoadHandler only opens the developer tools of the main browser")
+	void developerToolsLoadHandlerHandlesLoadEnd() throws Exception {
 		var cefBrowser = mock(CefBrowser.class);
-
-		customizer.accept(client);
-
-		// verify that addLoadHandler was called with a CefLoadHandlerAdapter
-		var captor = org.mockito.ArgumentCaptor.forClass(org.cef.handler.CefLoadHandlerAdapter.class);
-		verify(client).addLoadHandler(captor.capture());
-
-		var cefLoadHandlerAdapter = captor.getValue();
-		cefLoadHandlerAdapter.onLoadEnd(cefBrowser, null, 0);
+		var pooledBrowser = mock(CefBrowser.class);
+		@SuppressWarnings("unchecked")
+		ObjectProvider<CefBrowser> mainBrowser = mock(ObjectProvider.class);
+		when(mainBrowser.getIfAvailable()).thenReturn(cefBrowser);
+		var loadHandler = new DevelopmentAutoConfiguration().developerToolsLoadHandler(mainBrowser);
+
+		loadHandler.onLoadEnd(cefBrowser, null, 0);
+		loadHandler.onLoadEnd(pooledBrowser, null, 0);
+		SwingUtilities.invokeAndWait(() -> {
+		});
+
+		verify(cefBrowser).openDevTools();
+		verify(pooledBrowser, never()).openDevTools();
 	}
 
 	@Test
 	@DisplayName("🛠️ debugPortCustomizer sets port and adds args")
 	void debugPortCustomizerSetsPortAndArgs() {
 		// simulate having debug-port property
-		var props = new DevelopmentConfigurationProperties(5555, false, false, null);
+		var props = new DevelopmentConfigurationProperties(5555, false, false, null, false);
 		var cfg = new DevelopmentAutoConfiguration();
 		var customizer = cfg.debugPortCustomizer(props);
 
@@ -0,0 +1,54 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffScreenBrowserPanelTest {
+
+	private static final int RED = 0xFFFF0000;
+	private static final int GREEN = 0xFF00FF00;
+
+	private final OffScreenBrowserPanel panel = new OffScreenBrowserPanel();
+
+	@Test
+	@DisplayName("🖼 should copy only the dirty rectangles into the reused image")
+	void copiesDirtyRects() {
+		panel.paintFrame(false, new Rectangle[]{new Rectangle(0, 0, 2, 2)}, frame(2, 2, RED), 2, 2);
+		var image = panel.getViewImage();
+
+		panel.paintFrame(false, new Rectangle[]{new Rectangle(1, 0, 1, 1)}, frame(2, 2, GREEN), 2, 2);
+
+		assertThat(panel.getViewImage()).isSameAs(image);
+		assertThat(image.getRGB(0, 0)).isEqualTo(RED);
+		assertThat(image.getRGB(1, 0)).isEqualTo(GREEN);
+		assertThat(image.getRGB(1, 1)).isEqualTo(RED);
+	}
+
+	@Test
+	@DisplayName("📐 should replace the image and copy the whole frame when the size changes")
+	void replacesImageOnResize() {
+		panel.paintFrame(false, new Rectangle[]{new Rectangle(0, 0, 2, 2)}, frame(2, 2, RED), 2, 2);
+		var image = panel.getViewImage();
+
+		panel.paintFrame(false, new Rectangle[]{new Rectangle(0, 0, 1, 1)}, frame(3, 2, GREEN), 3, 2);
+
+		var resized = panel.getViewImage();
+		assertThat(resized).isNotSameAs(image);
+		assertThat(resized.getWidth()).isEqualTo(3);
+		assertThat(resized.getRGB(2, 1)).isEqualTo(GREEN);
+	}
+
+	private static ByteBuffer frame(int width, int height, int argb) {
+		var buffer = ByteBuffer.allocateDirect(width * height * 4).order(ByteOrder.LITTLE_ENDIAN);
+		for (int i = 0; i < width * height; i++) {
+			buffer.putInt(argb);
+		}
+		return buffer.flip();
+	}
+}
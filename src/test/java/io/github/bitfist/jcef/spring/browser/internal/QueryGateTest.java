@@ -0,0 +1,33 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryGateTest {
+
+	@Test
+	@DisplayName("🚧 should hold dispatches until opened and keep their order")
+	void holdsUntilOpen() {
+		var gate = new QueryGate();
+		var dispatched = new ArrayList<String>();
+
+		gate.execute(() -> dispatched.add("first"));
+		gate.execute(() -> {
+			throw new IllegalStateException("failing dispatch");
+		});
+		gate.execute(() -> dispatched.add("second"));
+
+		assertThat(dispatched).isEmpty();
+		assertThat(gate.isOpen()).isFalse();
+
+		gate.open();
+		gate.execute(() -> dispatched.add("third"));
+
+		assertThat(dispatched).containsExactly("first", "second", "third");
+		assertThat(gate.isOpen()).isTrue();
+	}
+}
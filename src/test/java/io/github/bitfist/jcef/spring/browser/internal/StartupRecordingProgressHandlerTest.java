@@ -0,0 +1,36 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import me.friwi.jcefmaven.EnumProgress;
+import me.friwi.jcefmaven.IProgressHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StartupRecordingProgressHandlerTest {
+
+	@Test
+	@DisplayName("📊 should record a startup phase per progress state and pass the progress on")
+	void recordsPhasePerState() {
+		var applicationStartup = new BufferingApplicationStartup(16);
+		var delegate = mock(IProgressHandler.class);
+		var handler = new StartupRecordingProgressHandler(delegate, applicationStartup);
+
+		handler.handleProgress(EnumProgress.DOWNLOADING, 10f);
+		handler.handleProgress(EnumProgress.DOWNLOADING, 90f);
+		handler.handleProgress(EnumProgress.EXTRACTING, -1f);
+		handler.end();
+
+		assertThat(applicationStartup.getBufferedTimeline().getEvents())
+				.extracting(StartupTimeline.TimelineEvent::getStartupStep)
+				.extracting(StartupStep::getName)
+				.containsExactly("jcef.cef-app.downloading", "jcef.cef-app.extracting");
+		verify(delegate).handleProgress(EnumProgress.DOWNLOADING, 90f);
+		verify(delegate).handleProgress(EnumProgress.EXTRACTING, -1f);
+	}
+}
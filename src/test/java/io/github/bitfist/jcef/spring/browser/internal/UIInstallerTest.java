@@ -6,13 +6,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.util.FileSystemUtils;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -34,7 +44,7 @@ class UIInstallerTest {
 	}
 
 	@Test
-	@DisplayName("📁 should copy UI resources when installation directory is empty")
+	@DisplayName("📁 should install UI resources into a new version when installation directory is empty")
 	void shouldCopyResourcesWhenDirectoryEmpty() throws IOException {
 		// Arrange: mock properties to point to a temporary dir and test classpath
 		when(properties.getUiInstallationPath()).thenReturn(tempDir);
@@ -46,10 +56,13 @@ class UIInstallerTest {
 		// Act: perform initialization which should install resources
 		installer.initialize();
 
-		// Assert: expected resource (e.g., index.html) exists in the target location
-		var expected = tempDir.resolve("index.html");
+		// Assert: expected resource (e.g., index.html) exists in the current version
+		var uiPath = installer.getUiPath();
+		var version = Files.readString(tempDir.resolve(UIInstaller.CURRENT_MARKER));
+		var expected = tempDir.resolve(UIInstaller.VERSIONS_DIRECTORY).resolve(version).resolve("index.html");
 		assertTrue(Files.exists(expected), "Expected index.html to be copied");
 		assertTrue(Files.size(expected) > 0, "Copied file should not be empty");
+		assertEquals(expected.getParent(), uiPath);
 	}
 
 	@Test
@@ -59,22 +72,139 @@ class UIInstallerTest {
 		when(properties.getUiInstallationPath()).thenReturn(tempDir);
 		when(properties.getDistributionClasspath()).thenReturn("ui");
 
-		// Prepare installer
+		// Prepare installer and install once, so the installed manifest matches
 		installer = new UIInstaller(properties);
+		installer.initialize();
 
-		// Simulate existing file with newer timestamp
-		var existing = tempDir.resolve("index.html");
-		Files.createDirectories(existing.getParent());
+		// Modify the installed file, an up-to-date version must not cause another copy
+		var existing = installer.getUiPath().resolve("index.html");
 		var original = "original-content";
-		Files.writeString(existing, original, StandardOpenOption.CREATE);
-		// Set file timestamp ahead of classpath resource
-		existing.toFile().setLastModified(System.currentTimeMillis() + 10_000);
+		Files.writeString(existing, original, StandardOpenOption.TRUNCATE_EXISTING);
 
 		// Act
+		installer = new UIInstaller(properties);
 		installer.initialize();
 
 		// Assert: file should remain unchanged
+		assertEquals(existing, installer.getUiPath().resolve("index.html"));
 		String content = Files.readString(existing);
 		assertEquals(original, content, "Existing up-to-date file should not be overwritten");
 	}
+
+	@Test
+	@DisplayName("🔄 should install a new version next to the old one and clean up afterwards")
+	void shouldInstallNewVersionAndCleanUp() throws IOException {
+		when(properties.getUiInstallationPath()).thenReturn(tempDir);
+		when(properties.getDistributionClasspath()).thenReturn("ui/");
+		installer = new UIInstaller(properties);
+		installer.initialize();
+		var installedVersion = installer.getUiPath();
+		var manifest = UIManifest.read(installedVersion.resolve(UIManifest.INSTALLED_FILE_NAME));
+
+		// Simulate an older version: index.html had other content, an obsolete file existed and an in-place install was left behind
+		var entries = new TreeMap<>(manifest.entries());
+		entries.put("index.html", new UIManifest.Entry("outdated", 1));
+		entries.put("obsolete.js", new UIManifest.Entry("obsolete", 1));
+		var oldVersion = tempDir.resolve(UIInstaller.VERSIONS_DIRECTORY).resolve("old");
+		FileSystemUtils.copyRecursively(installedVersion, oldVersion);
+		FileSystemUtils.deleteRecursively(installedVersion);
+		new UIManifest(entries).write(oldVersion.resolve(UIManifest.INSTALLED_FILE_NAME));
+		Files.writeString(oldVersion.resolve("index.html"), "outdated");
+		Files.writeString(oldVersion.resolve("obsolete.js"), "obsolete");
+		Files.writeString(tempDir.resolve(UIInstaller.CURRENT_MARKER), "old");
+		Files.writeString(tempDir.resolve("index.html"), "legacy");
+
+		installer = new UIInstaller(properties);
+		installer.initialize();
+		installer.awaitCleanup();
+
+		assertEquals(installedVersion, installer.getUiPath());
+		assertNotEquals("outdated", Files.readString(installedVersion.resolve("index.html")), "Changed file should be copied");
+		assertFalse(Files.exists(installedVersion.resolve("obsolete.js")), "Removed file should not be installed");
+		assertEquals(manifest.hash(), UIManifest.read(installedVersion.resolve(UIManifest.INSTALLED_FILE_NAME)).hash(), "Installed manifest should be up-to-date");
+		assertFalse(Files.exists(oldVersion), "Old version should be deleted");
+		assertFalse(Files.exists(tempDir.resolve("index.html")), "Legacy in-place install should be deleted");
+	}
+
+	@Test
+	@DisplayName("🧹 should delete a flat install of an earlier release once a version is installed")
+	void shouldDeleteLegacyInstall() throws IOException {
+		when(properties.getUiInstallationPath()).thenReturn(tempDir);
+		when(properties.getDistributionClasspath()).thenReturn("ui");
+		Files.writeString(tempDir.resolve("index.html"), "legacy");
+		Files.createDirectories(tempDir.resolve("assets"));
+		Files.writeString(tempDir.resolve("assets").resolve("app.js"), "legacy");
+		Files.writeString(tempDir.resolve(UIManifest.INSTALLED_FILE_NAME), "# jcef-ui-manifest 1");
+
+		installer = new UIInstaller(properties);
+		installer.initialize();
+		installer.awaitCleanup();
+
+		try (var entries = Files.list(tempDir)) {
+			assertEquals(
+					Set.of(UIInstaller.VERSIONS_DIRECTORY, UIInstaller.CURRENT_MARKER),
+					entries.map(entry -> entry.getFileName().toString()).collect(Collectors.toSet()),
+					"Only the versioned install should be left"
+			);
+		}
+		assertTrue(Files.exists(installer.getUiPath().resolve("index.html")), "Current version should be installed");
+	}
+
+	@Test
+	@DisplayName("🔒 should keep versions in use by another instance and fresh staging directories")
+	void shouldKeepVersionsInUse() throws IOException {
+		when(properties.getUiInstallationPath()).thenReturn(tempDir);
+		when(properties.getDistributionClasspath()).thenReturn("ui");
+		var versions = tempDir.resolve(UIInstaller.VERSIONS_DIRECTORY);
+		var inUse = Files.createDirectories(versions.resolve("in-use"));
+		var outdated = Files.createDirectories(versions.resolve("outdated"));
+		var staging = Files.createDirectories(versions.resolve("next.staging-1"));
+		var abandoned = Files.createDirectories(versions.resolve("next.staging-2"));
+		Files.setLastModifiedTime(abandoned, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+		try (var running = new UIInstaller(properties);
+			 var channel = FileChannel.open(versions.resolve("in-use.lock"), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			 var ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+			installer = running;
+			installer.initialize();
+			installer.awaitCleanup();
+		}
+
+		assertTrue(Files.exists(inUse), "Locked version should be kept");
+		assertTrue(Files.exists(staging), "Fresh staging directory should be kept");
+		assertFalse(Files.exists(outdated), "Unused version should be deleted");
+		assertFalse(Files.exists(abandoned), "Abandoned staging directory should be deleted");
+	}
+
+	@Test
+	@DisplayName("📇 should install the resources listed in a shipped manifest without scanning")
+	void shouldInstallIndexedResources() throws IOException {
+		when(properties.getUiInstallationPath()).thenReturn(tempDir);
+		when(properties.getDistributionClasspath()).thenReturn("ui-indexed");
+		installer = new UIInstaller(properties);
+
+		installer.initialize();
+
+		var uiPath = installer.getUiPath();
+		assertTrue(Files.exists(uiPath.resolve("index.html")));
+		assertTrue(Files.exists(uiPath.resolve("assets").resolve("app.js")));
+		assertFalse(Files.exists(uiPath.resolve("unlisted.js")), "Resources missing in the manifest should not be discovered");
+		assertFalse(Files.exists(uiPath.resolve(UIManifest.FILE_NAME)));
+	}
+
+	@Test
+	@DisplayName("📜 should generate a manifest for a distribution directory")
+	void shouldGenerateManifest() throws IOException {
+		var distribution = Files.createDirectories(tempDir.resolve("dist"));
+		Files.writeString(distribution.resolve("index.html"), "<html></html>");
+		Files.createDirectories(distribution.resolve("assets"));
+		Files.writeString(distribution.resolve("assets").resolve("app.js"), "console.log('app');");
+
+		UIManifestWriter.write(distribution);
+
+		var manifest = UIManifest.read(distribution.resolve(UIManifest.FILE_NAME));
+		assertEquals(2, manifest.entries().size());
+		assertEquals(13, manifest.entries().get("index.html").size());
+		assertTrue(manifest.entries().containsKey("assets/app.js"));
+	}
 }
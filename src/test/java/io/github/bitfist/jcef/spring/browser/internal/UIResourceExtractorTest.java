@@ -0,0 +1,57 @@
+package io.github.bitfist.jcef.spring.browser.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UIResourceExtractorTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	@DisplayName("📄 should transfer file resources")
+	void extractFile() throws IOException {
+		var source = Files.writeString(tempDir.resolve("source.js"), "console.log('file');");
+		var target = tempDir.resolve("target.js");
+
+		try (var extractor = new UIResourceExtractor()) {
+			extractor.extract(new FileSystemResource(source), target);
+		}
+
+		assertThat(target).hasContent("console.log('file');");
+	}
+
+	@Test
+	@DisplayName("📦 should extract jar entries")
+	void extractJarEntries() throws IOException {
+		var jar = tempDir.resolve("ui.jar");
+		try (var out = new ZipOutputStream(Files.newOutputStream(jar))) {
+			for (String name : new String[]{"ui/index.html", "ui/assets/app.js"}) {
+				out.putNextEntry(new ZipEntry(name));
+				out.write(name.getBytes(StandardCharsets.UTF_8));
+				out.closeEntry();
+			}
+		}
+		var jarUrl = "jar:" + jar.toUri() + "!/";
+
+		try (var extractor = new UIResourceExtractor()) {
+			extractor.extract(new UrlResource(jarUrl + "ui/index.html"), tempDir.resolve("index.html"));
+			extractor.extract(new UrlResource(jarUrl + "ui/assets/app.js"), tempDir.resolve("app.js"));
+		}
+
+		assertThat(tempDir.resolve("index.html")).hasContent("ui/index.html");
+		assertThat(tempDir.resolve("app.js")).hasContent("ui/assets/app.js");
+	}
+}
@@ -0,0 +1,132 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("📦 BatchingJavaScriptExecutor Tests")
+class BatchingJavaScriptExecutorTest {
+
+	private final JavaScriptExecutor delegate = mock(JavaScriptExecutor.class);
+	// Long interval, so flushes only happen when triggered by the test
+	private final BatchingJavaScriptExecutor executor = new BatchingJavaScriptExecutor(delegate, Duration.ofHours(1));
+
+	@AfterEach
+	void tearDown() {
+		executor.close();
+	}
+
+	@Test
+	@DisplayName("🚫 should not call delegate when nothing is pending")
+	void flushWithoutPendingScripts() {
+		executor.flush();
+
+		verify(delegate, never()).execute(anyString());
+	}
+
+	@Test
+	@DisplayName("✅ should send a single script unchanged")
+	void flushSingleScript() {
+		executor.execute("console.log(1);");
+
+		executor.flush();
+
+		verify(delegate).execute("console.log(1);");
+	}
+
+	@Test
+	@DisplayName("📦 should send buffered scripts as one script in order")
+	void flushConcatenatesScripts() {
+		executor.execute("first();");
+		executor.execute("second();");
+
+		executor.flush();
+
+		var captor = ArgumentCaptor.forClass(String.class);
+		verify(delegate, times(1)).execute(captor.capture());
+		var script = captor.getValue();
+		assertThat(script).contains("first();", "second();");
+		assertThat(script.indexOf("first();")).isLessThan(script.indexOf("second();"));
+	}
+
+	@Test
+	@DisplayName("🔁 should forward a batch holding an evaluation as evaluation")
+	void flushForwardsEvaluations() {
+		executor.execute("first();");
+		executor.executeEvaluation("evaluate();");
+
+		executor.flush();
+		executor.execute("later();");
+		executor.flush();
+
+		verify(delegate).executeEvaluation(anyString());
+		verify(delegate).execute("later();");
+	}
+
+	@Test
+	@DisplayName("🔁 should drop superseded scripts with the same coalescing key")
+	void coalescesKeyedScripts() {
+		executor.execute("progress", "progress(1);");
+		executor.execute("other();");
+		executor.execute("progress", "progress(2);");
+
+		executor.flush();
+
+		var captor = ArgumentCaptor.forClass(String.class);
+		verify(delegate).execute(captor.capture());
+		var script = captor.getValue();
+		assertThat(script).doesNotContain("progress(1);");
+		assertThat(script.indexOf("other();")).isLessThan(script.indexOf("progress(2);"));
+	}
+
+	@Test
+	@DisplayName("💥 should survive delegate failures")
+	void flushSurvivesDelegateFailure() {
+		doThrow(new IllegalStateException("boom")).when(delegate).execute("failing();");
+		executor.execute("failing();");
+
+		executor.flush();
+		executor.execute("next();");
+		executor.flush();
+
+		verify(delegate).execute("next();");
+	}
+
+	@Test
+	@DisplayName("🧹 should flush pending scripts on close")
+	void closeFlushes() {
+		executor.execute("last();");
+
+		executor.close();
+
+		verify(delegate).execute("last();");
+	}
+
+	@Test
+	@DisplayName("🧩 should isolate scripts from each other's runtime errors")
+	void concatenateWrapsScripts() {
+		var script = BatchingJavaScriptExecutor.concatenate(List.of("a();", "b();"));
+
+		assertThat(script).isEqualTo("""
+				try {
+				a();
+				} catch (e) { console.error(e); }
+				try {
+				b();
+				} catch (e) { console.error(e); }
+				""");
+	}
+}
@@ -0,0 +1,45 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("🗂 CoalescingQueue Tests")
+class CoalescingQueueTest {
+
+	private final CoalescingQueue<String> queue = new CoalescingQueue<>();
+
+	@Test
+	@DisplayName("🔁 should replace scripts sharing a coalescing key and move the latest to the end")
+	void replacesCoalescedScripts() {
+		queue.add("price", "price = 1");
+		queue.add("log(1)");
+		queue.add("price", "price = 2");
+
+		assertThat(queue.contains("price")).isTrue();
+		assertThat(queue.drain()).containsExactly("log(1)", "price = 2");
+		assertThat(queue.isEmpty()).isTrue();
+	}
+
+	@Test
+	@DisplayName("📋 should keep unkeyed scripts, even if equal")
+	void keepsUnkeyedScripts() {
+		queue.add("log(1)");
+		queue.add("log(1)");
+
+		assertThat(queue.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("⬅️ should poll the oldest script")
+	void pollsOldestScript() {
+		queue.add("first");
+		queue.add("key", "second");
+
+		assertThat(queue.poll()).isEqualTo("first");
+		assertThat(queue.poll()).isEqualTo("second");
+		assertThat(queue.poll()).isNull();
+		assertThat(queue.contains("key")).isFalse();
+	}
+}
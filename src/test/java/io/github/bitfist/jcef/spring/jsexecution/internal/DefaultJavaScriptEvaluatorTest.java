@@ -0,0 +1,66 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluationException;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.callback.CefQueryCallback;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("🔁 DefaultJavaScriptEvaluator Tests")
+class DefaultJavaScriptEvaluatorTest {
+
+	private final JavaScriptExecutor executor = mock(JavaScriptExecutor.class);
+	private final PendingJavaScriptCalls pendingCalls = new PendingJavaScriptCalls(new ObjectMapper(), Duration.ofSeconds(10), 1);
+	private final DefaultJavaScriptEvaluator evaluator = new DefaultJavaScriptEvaluator(executor, pendingCalls);
+
+	@Test
+	@DisplayName("✅ should execute wrapped code and complete with the routed result")
+	void evaluatesThroughRoundTrip() throws Exception {
+		var future = evaluator.evaluate("return document.title;", new TypeReference<String>() {});
+
+		var captor = ArgumentCaptor.forClass(String.class);
+		verify(executor).executeEvaluation(captor.capture());
+		var script = captor.getValue();
+		assertThat(script)
+				.contains("return document.title;")
+				.contains("window.jcefJavaScriptResult(");
+		var id = script.substring(script.indexOf("var id = '") + 10, script.indexOf("';"));
+
+		var callback = mock(CefQueryCallback.class);
+		new JavaScriptResultRouterHandler(pendingCalls)
+				.onQuery(mock(CefBrowser.class), mock(CefFrame.class), 1, "{\"id\":\"" + id + "\",\"value\":\"Title\"}", false, callback);
+
+		assertThat(future.get()).isEqualTo("Title");
+		verify(callback).success("");
+		verify(callback, never()).failure(anyInt(), anyString());
+	}
+
+	@Test
+	@DisplayName("🚫 should fail without executing when too many calls are pending")
+	void failsWhenTableIsFull() {
+		evaluator.evaluate("return 1;", new TypeReference<Integer>() {});
+
+		var rejected = evaluator.evaluate("return 2;", new TypeReference<Integer>() {});
+
+		assertThatThrownBy(rejected::get)
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(JavaScriptEvaluationException.class);
+		verify(executor, never()).executeEvaluation(anyString());
+	}
+}
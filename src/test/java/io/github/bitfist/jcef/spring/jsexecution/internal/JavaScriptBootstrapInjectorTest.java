@@ -0,0 +1,71 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptBootstrap;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.network.CefRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JavaScriptBootstrapInjectorTest {
+
+	private final CefBrowser browser = mock(CefBrowser.class);
+	private final CefFrame frame = mock(CefFrame.class);
+
+	@SuppressWarnings("unchecked")
+	private final ObjectProvider<JavaScriptBootstrap> bootstraps = mock(ObjectProvider.class);
+
+	private JavaScriptBootstrapInjector injector;
+
+	@BeforeEach
+	void setUp() {
+		when(frame.isMain()).thenReturn(true);
+		when(frame.getURL()).thenReturn("http://localhost/index.html");
+		when(browser.getMainFrame()).thenReturn(frame);
+		when(bootstraps.orderedStream()).thenAnswer(invocation -> Stream.<JavaScriptBootstrap>of(() -> "first();", () -> "second();"));
+		injector = new JavaScriptBootstrapInjector(bootstraps);
+	}
+
+	@Test
+	@DisplayName("💉 Injects all bootstrap scripts when the main frame starts loading")
+	void injectsOnLoadStart() {
+		injector.afterSingletonsInstantiated();
+
+		injector.onLoadStart(browser, frame, CefRequest.TransitionType.TT_LINK);
+
+		verify(frame).executeJavaScript("first();\nsecond();", "http://localhost/index.html", 0);
+	}
+
+	@Test
+	@DisplayName("🖼️ Ignores sub frames")
+	void ignoresSubFrames() {
+		injector.afterSingletonsInstantiated();
+		var subFrame = mock(CefFrame.class);
+
+		injector.onLoadStart(browser, subFrame, CefRequest.TransitionType.TT_LINK);
+
+		verify(subFrame, never()).executeJavaScript(anyString(), anyString(), anyInt());
+	}
+
+	@Test
+	@DisplayName("⏳ Injects into a page that started loading before the bootstraps were available")
+	void injectsLateIntoLoadingPage() {
+		injector.onLoadStart(browser, frame, CefRequest.TransitionType.TT_LINK);
+		verify(frame, never()).executeJavaScript(anyString(), anyString(), anyInt());
+
+		injector.afterSingletonsInstantiated();
+
+		verify(frame).executeJavaScript("first();\nsecond();", "http://localhost/index.html", 0);
+	}
+}
@@ -30,15 +30,18 @@ class JavaScriptCodeAnnotationProcessorTest {
 				package test;
 				
 				import com.fasterxml.jackson.databind.ObjectMapper;
+				import io.github.bitfist.jcef.spring.jsexecution.JavaScriptBootstrap;
 				import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
 				
 				import java.util.logging.Logger;
 				
 				@org.springframework.stereotype.Component
-				class UserInterfaceImpl implements UserInterface {
+				class UserInterfaceImpl implements UserInterface, JavaScriptBootstrap {
 				
 				    private static final Logger log = Logger.getLogger(UserInterfaceImpl.class.getName());
 				
+				    private static final String NAMESPACE = "window.__jcefFunctions['test.UserInterface']";
+				
 				    private final JavaScriptExecutor executor;
 				    private final ObjectMapper objectMapper;
 				
@@ -53,12 +56,21 @@ class JavaScriptCodeAnnotationProcessorTest {
 				
 				    @Override
 				    public void myMethod() {
-				        String code = MYMETHOD_CODE_0;
-				        code = code.trim();
+				        String code = NAMESPACE + ".fn0();";
 				        log.fine("Executing code\\n" + code);
 				        executor.execute(code);
 				    }
 				
+				    private static final String BOOTSTRAP = "window.__jcefFunctions = window.__jcefFunctions || {};\\n"
+				            + NAMESPACE + " = {\\n"
+				            + "fn0: function () {\\n" + MYMETHOD_CODE_0 + "\\n},\\n"
+				            + "};";
+				
+				    @Override
+				    public String getBootstrapScript() {
+				        return BOOTSTRAP;
+				    }
+				
 				}
 				""");
 
@@ -100,11 +112,36 @@ class JavaScriptCodeAnnotationProcessorTest {
 		assertThat(compilation)
 				.generatedSourceFile("test.UserInterfaceImpl")
 				.contentsAsUtf8String()
-				.contains("code = code.replace(\":id\", String.valueOf(id));");
+				.contains("code = NAMESPACE + \".fn0(\" + objectMapper.writeValueAsString(user) + \", \" + String.valueOf(id) + \");\";");
 		assertThat(compilation)
 				.generatedSourceFile("test.UserInterfaceImpl")
 				.contentsAsUtf8String()
-				.contains("code = code.replace(\":user\", objectMapper.writeValueAsString(user));");
+				.contains("\"fn0: function ($user, $id) {\\n\" + ADDUSER_CODE_0 + \"\\n},\\n\"");
+	}
+
+	@Test
+	@DisplayName("🧵 Should fall back to inline replacement for placeholders inside string literals")
+	void shouldInlinePlaceholdersInsideStringLiterals() {
+		JavaFileObject userInterface = JavaFileObjects.forSourceString("test.UserInterface", """
+				    package test;
+				    import io.github.bitfist.jcef.spring.jsexecution.JavaScriptCode;
+				
+				    public interface UserInterface {
+				        @JavaScriptCode("document.title = 'Hello :name';")
+				        void greet(String name);
+				    }
+				""");
+
+		var compilation = javac()
+				.withProcessors(new JavaScriptCodeAnnotationProcessor())
+				.compile(userInterface);
+
+		assertThat(compilation).succeeded();
+		var generated = assertThat(compilation)
+				.generatedSourceFile("test.UserInterfaceImpl")
+				.contentsAsUtf8String();
+		generated.contains("code = code.replace(\":name\", objectMapper.writeValueAsString(name));");
+		generated.doesNotContain("JavaScriptBootstrap");
 	}
 
 	@Test
@@ -181,7 +218,7 @@ class JavaScriptCodeAnnotationProcessorTest {
 
 		// This should not fail the compilation, but the processor should not generate any file.
 		assertThat(compilation).failed();
-		assertThat(compilation).hadErrorContaining("JavaScriptCode annotation is only supported on void methods.");
+		assertThat(compilation).hadErrorContaining("JavaScriptCode annotation is only supported on void methods and methods returning CompletableFuture<T>.");
 	}
 
 	@Test
@@ -204,4 +241,57 @@ class JavaScriptCodeAnnotationProcessorTest {
 		assertThat(compilation).failed();
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("🔁 Should evaluate methods returning CompletableFuture")
+	void shouldGenerateEvaluationForFutureReturnTypes() {
+		JavaFileObject userInterface = JavaFileObjects.forSourceString("test.UserInterface", """
+				    package test;
+				    import io.github.bitfist.jcef.spring.jsexecution.JavaScriptCode;
+				    import java.util.List;
+				    import java.util.concurrent.CompletableFuture;
+				
+				    public interface UserInterface {
+				        @JavaScriptCode("return document.title;")
+				        CompletableFuture<String> getTitle();
+				
+				        @JavaScriptCode("return store.items(:limit);")
+				        CompletableFuture<List<String>> getItems(int limit);
+				    }
+				""");
+
+		var compilation = javac()
+				.withProcessors(new JavaScriptCodeAnnotationProcessor())
+				.compile(userInterface);
+
+		assertThat(compilation).succeeded();
+		var generated = assertThat(compilation)
+				.generatedSourceFile("test.UserInterfaceImpl")
+				.contentsAsUtf8String();
+		generated.contains("io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluator evaluator)");
+		generated.contains("public java.util.concurrent.CompletableFuture<java.lang.String> getTitle()");
+		generated.contains("return evaluator.evaluate(\"return \" + code, new com.fasterxml.jackson.core.type.TypeReference<java.lang.String>() {});");
+		generated.contains("return evaluator.evaluate(\"return \" + code, new com.fasterxml.jackson.core.type.TypeReference<java.util.List<java.lang.String>>() {});");
+	}
+
+	@Test
+	@DisplayName("⚠️ Should report error for CompletableFuture with wildcard")
+	void shouldReportErrorForWildcardFuture() {
+		JavaFileObject userInterface = JavaFileObjects.forSourceString("test.UserInterface", """
+				    package test;
+				    import io.github.bitfist.jcef.spring.jsexecution.JavaScriptCode;
+				    import java.util.concurrent.CompletableFuture;
+				
+				    public interface UserInterface {
+				        @JavaScriptCode("return 1;")
+				        CompletableFuture<?> getNumber();
+				    }
+				""");
+
+		var compilation = javac()
+				.withProcessors(new JavaScriptCodeAnnotationProcessor())
+				.compile(userInterface);
+
+		assertThat(compilation).failed();
+	}
+
+}
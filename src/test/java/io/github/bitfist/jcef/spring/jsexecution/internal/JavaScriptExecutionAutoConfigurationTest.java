@@ -1,10 +1,21 @@
 package io.github.bitfist.jcef.spring.jsexecution.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.bitfist.jcef.spring.browser.Browser;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutionProperties;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import org.cef.CefClient;
+import org.cef.browser.CefMessageRouter;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 
 class JavaScriptExecutionAutoConfigurationTest {
 
@@ -13,7 +24,66 @@ class JavaScriptExecutionAutoConfigurationTest {
 		Browser browser = mock(Browser.class);
 		var autoConfiguration = new JavaScriptExecutionAutoConfiguration();
 
-		assertNotNull(autoConfiguration.javaScriptExecutor(browser));
+		assertNotNull(autoConfiguration.javaScriptExecutor(browser, new PageLoadState(), new JavaScriptExecutionProperties()));
 	}
 
-}
\ No newline at end of file
+	@Test
+	void createsLifecycleAwareBeanByDefault() throws Exception {
+		Browser browser = mock(Browser.class);
+		var autoConfiguration = new JavaScriptExecutionAutoConfiguration();
+
+		var executor = autoConfiguration.javaScriptExecutor(browser, autoConfiguration.javaScriptPageLoadState(mock(ObjectProvider.class)), new JavaScriptExecutionProperties());
+
+		assertThat(executor).isInstanceOf(LifecycleAwareJavaScriptExecutor.class);
+		((AutoCloseable) executor).close();
+	}
+
+	@Test
+	void createsBatchingBeanWhenEnabled() throws Exception {
+		Browser browser = mock(Browser.class);
+		var properties = new JavaScriptExecutionProperties();
+		properties.getBatching().setEnabled(true);
+		properties.getQueue().setEnabled(false);
+		var autoConfiguration = new JavaScriptExecutionAutoConfiguration();
+
+		var executor = autoConfiguration.javaScriptExecutor(browser, new PageLoadState(), properties);
+
+		assertThat(executor).isInstanceOf(BatchingJavaScriptExecutor.class);
+		((AutoCloseable) executor).close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void createsBootstrapInjector() {
+		var autoConfiguration = new JavaScriptExecutionAutoConfiguration();
+
+		assertNotNull(autoConfiguration.javaScriptBootstrapInjector(mock(ObjectProvider.class)));
+	}
+
+	@Test
+	void createsEvaluationBeans() {
+		var autoConfiguration = new JavaScriptExecutionAutoConfiguration();
+		var pendingCalls = autoConfiguration.pendingJavaScriptCalls(new ObjectMapper(), new JavaScriptExecutionProperties());
+
+		assertNotNull(pendingCalls);
+		assertThat(autoConfiguration.javaScriptEvaluator(mock(JavaScriptExecutor.class), pendingCalls))
+				.isInstanceOf(DefaultJavaScriptEvaluator.class);
+	}
+
+	@Test
+	void resultRouterCustomizerAddsMessageRouter() {
+		try (var staticCefMessageRouter = mockStatic(CefMessageRouter.class)) {
+			var messageRouter = mock(CefMessageRouter.class);
+			staticCefMessageRouter.when(() -> CefMessageRouter.create(any(CefMessageRouter.CefMessageRouterConfig.class)))
+					.thenReturn(messageRouter);
+			var client = mock(CefClient.class);
+			var autoConfiguration = new JavaScriptExecutionAutoConfiguration();
+
+			autoConfiguration.javaScriptResultRouterCustomizer(mock(PendingJavaScriptCalls.class)).accept(client);
+
+			verify(messageRouter).addHandler(any(JavaScriptResultRouterHandler.class), eq(true));
+			verify(client).addMessageRouter(messageRouter);
+		}
+	}
+
+}
@@ -0,0 +1,197 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserVisibilityChangedEvent;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutionProperties.OverflowPolicy;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptExecutor;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefFrame;
+import org.cef.network.CefRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LifecycleAwareJavaScriptExecutorTest {
+
+	private final JavaScriptExecutor delegate = mock(JavaScriptExecutor.class);
+	private final CefBrowser browser = mock(CefBrowser.class);
+	private final CefFrame mainFrame = mock(CefFrame.class);
+	private final PageLoadState pageLoadState = new PageLoadState();
+
+	@BeforeEach
+	void setUp() {
+		when(mainFrame.isMain()).thenReturn(true);
+	}
+
+	@Test
+	@DisplayName("⏳ Queues scripts until the main frame finished loading and replays them in order")
+	void replaysInOrderWhenReady() throws Exception {
+		try (var executor = new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 10, OverflowPolicy.DROP_OLDEST)) {
+			executor.execute("first();");
+			executor.execute("key", "second();");
+			verify(delegate, never()).execute(anyString());
+
+			pageLoadState.onLoadEnd(browser, mainFrame, 200);
+
+			InOrder order = inOrder(delegate);
+			order.verify(delegate).execute("first();");
+			order.verify(delegate).execute("key", "second();");
+			assertThat(executor.size()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("🚀 Sends scripts directly while the page is ready")
+	void sendsDirectlyWhenReady() throws Exception {
+		pageLoadState.onLoadEnd(browser, mainFrame, 200);
+		try (var executor = new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 10, OverflowPolicy.DROP_OLDEST)) {
+			executor.execute("now();");
+
+			verify(delegate).execute("now();");
+			assertThat(executor.size()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("🔄 Queues again while the page reloads")
+	void queuesDuringReload() throws Exception {
+		pageLoadState.onLoadEnd(browser, mainFrame, 200);
+		try (var executor = new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 10, OverflowPolicy.DROP_OLDEST)) {
+			pageLoadState.onLoadStart(browser, mainFrame, CefRequest.TransitionType.TT_RELOAD);
+			executor.execute("later();");
+			verify(delegate, never()).execute("later();");
+
+			pageLoadState.onLoadEnd(browser, mainFrame, 200);
+
+			verify(delegate).execute("later();");
+		}
+	}
+
+	@Test
+	@DisplayName("🖼️ Sub frame loads do not affect the ready state")
+	void ignoresSubFrames() {
+		var subFrame = mock(CefFrame.class);
+
+		pageLoadState.onLoadEnd(browser, subFrame, 200);
+
+		assertThat(pageLoadState.isReady()).isFalse();
+	}
+
+	@Test
+	@DisplayName("🪟 Loads of other browsers do not affect the ready state")
+	void ignoresOtherBrowsers() {
+		var primaryOnly = new PageLoadState(tracked -> tracked == browser);
+
+		primaryOnly.onLoadEnd(mock(CefBrowser.class), mainFrame, 200);
+		assertThat(primaryOnly.isReady()).isFalse();
+
+		primaryOnly.onLoadEnd(browser, mainFrame, 200);
+		assertThat(primaryOnly.isReady()).isTrue();
+	}
+
+	@Test
+	@DisplayName("🗑️ Drops the oldest script when the queue is full")
+	void dropsOldestOnOverflow() throws Exception {
+		try (var executor = new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 2, OverflowPolicy.DROP_OLDEST)) {
+			executor.execute("first();");
+			executor.execute("second();");
+			executor.execute("third();");
+			assertThat(executor.size()).isEqualTo(2);
+
+			pageLoadState.onLoadEnd(browser, mainFrame, 200);
+
+			verify(delegate, never()).execute("first();");
+			verify(delegate).execute("second();");
+			verify(delegate).execute("third();");
+		}
+	}
+
+	@Test
+	@DisplayName("🔁 Coalesces queued scripts sharing a key")
+	void coalescesKeyedScripts() throws Exception {
+		try (var executor = new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 2, OverflowPolicy.COALESCE)) {
+			executor.execute("progress", "progress(1);");
+			executor.execute("other();");
+			executor.execute("progress", "progress(2);");
+			assertThat(executor.size()).isEqualTo(2);
+
+			pageLoadState.onLoadEnd(browser, mainFrame, 200);
+
+			InOrder order = inOrder(delegate);
+			order.verify(delegate).execute("other();");
+			order.verify(delegate).execute("progress", "progress(2);");
+			verify(delegate, never()).execute("progress", "progress(1);");
+		}
+	}
+
+	@Test
+	@DisplayName("👁 Holds back scripts while the window is hidden and coalesces keyed ones")
+	void holdsBackWhileHidden() throws Exception {
+		pageLoadState.onLoadEnd(browser, mainFrame, 200);
+		try (var executor = new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 10, OverflowPolicy.DROP_OLDEST)) {
+			executor.onVisibilityChanged(new BrowserVisibilityChangedEvent(browser, false));
+			executor.execute("progress", "progress(1);");
+			executor.execute("other();");
+			executor.execute("progress", "progress(2);");
+			verify(delegate, never()).execute(anyString());
+			verify(delegate, never()).execute(anyString(), anyString());
+			assertThat(executor.size()).isEqualTo(2);
+
+			executor.onVisibilityChanged(new BrowserVisibilityChangedEvent(browser, true));
+
+			InOrder order = inOrder(delegate);
+			order.verify(delegate).execute("other();");
+			order.verify(delegate).execute("progress", "progress(2);");
+			verify(delegate, never()).execute("progress", "progress(1);");
+			assertThat(executor.size()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("🔁 Sends evaluations while the window is hidden, after the scripts held back before them")
+	void sendsEvaluationsWhileHidden() throws Exception {
+		try (var executor = new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 10, OverflowPolicy.DROP_OLDEST)) {
+			executor.onVisibilityChanged(new BrowserVisibilityChangedEvent(browser, false));
+			executor.executeEvaluation("loading();");
+			verify(delegate, never()).executeEvaluation(anyString());
+
+			pageLoadState.onLoadEnd(browser, mainFrame, 200);
+			verify(delegate).executeEvaluation("loading();");
+
+			executor.execute("progress", "progress(1);");
+			executor.executeEvaluation("evaluate();");
+
+			InOrder order = inOrder(delegate);
+			order.verify(delegate).execute("progress", "progress(1);");
+			order.verify(delegate).executeEvaluation("evaluate();");
+			assertThat(executor.size()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("🧹 Closing closes the delegate")
+	void closeClosesDelegate() throws Exception {
+		var closeable = mock(BatchingJavaScriptExecutor.class);
+		var executor = new LifecycleAwareJavaScriptExecutor(closeable, pageLoadState, 2, OverflowPolicy.DROP_OLDEST);
+
+		executor.close();
+
+		verify(closeable).close();
+	}
+
+	@Test
+	@DisplayName("⚠️ Rejects a non-positive capacity")
+	void rejectsInvalidCapacity() {
+		assertThatThrownBy(() -> new LifecycleAwareJavaScriptExecutor(delegate, pageLoadState, 0, OverflowPolicy.DROP_OLDEST))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
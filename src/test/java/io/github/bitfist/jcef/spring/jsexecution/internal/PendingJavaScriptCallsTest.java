@@ -0,0 +1,88 @@
+package io.github.bitfist.jcef.spring.jsexecution.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.jsexecution.JavaScriptEvaluationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("🔁 PendingJavaScriptCalls Tests")
+class PendingJavaScriptCallsTest {
+
+	private final PendingJavaScriptCalls pendingCalls = new PendingJavaScriptCalls(new ObjectMapper(), Duration.ofSeconds(10), 2);
+
+	@Test
+	@DisplayName("✅ should complete future with decoded value")
+	void completesWithValue() throws Exception {
+		var future = new CompletableFuture<List<Integer>>();
+		var id = pendingCalls.register(future, new TypeReference<>() {});
+
+		pendingCalls.complete("{\"id\":\"" + id + "\",\"value\":[1,2,3]}");
+
+		assertThat(future.get()).containsExactly(1, 2, 3);
+		assertThat(pendingCalls.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("💥 should complete future exceptionally with JavaScript error")
+	void completesWithError() {
+		var future = new CompletableFuture<String>();
+		var id = pendingCalls.register(future, new TypeReference<>() {});
+
+		pendingCalls.complete("{\"id\":\"" + id + "\",\"error\":\"ReferenceError: x is not defined\"}");
+
+		assertThatThrownBy(future::get)
+				.isInstanceOf(ExecutionException.class)
+				.hasCauseInstanceOf(JavaScriptEvaluationException.class)
+				.hasMessageContaining("ReferenceError");
+	}
+
+	@Test
+	@DisplayName("🚫 should reject calls when the table is full")
+	void rejectsWhenFull() {
+		pendingCalls.register(new CompletableFuture<String>(), new TypeReference<>() {});
+		pendingCalls.register(new CompletableFuture<String>(), new TypeReference<>() {});
+
+		assertThatThrownBy(() -> pendingCalls.register(new CompletableFuture<String>(), new TypeReference<>() {}))
+				.isInstanceOf(JavaScriptEvaluationException.class);
+	}
+
+	@Test
+	@DisplayName("⏱ should time out and free the slot")
+	void timesOut() {
+		var shortLived = new PendingJavaScriptCalls(new ObjectMapper(), Duration.ofMillis(10), 1);
+		var future = new CompletableFuture<String>();
+		shortLived.register(future, new TypeReference<>() {});
+
+		assertThatThrownBy(future::get).hasCauseInstanceOf(TimeoutException.class);
+		// The slot is freed by a dependent stage running after the future completed on the timeout thread
+		await().atMost(2, TimeUnit.SECONDS).until(() -> shortLived.size() == 0);
+		shortLived.register(new CompletableFuture<String>(), new TypeReference<>() {});
+	}
+
+	@Test
+	@DisplayName("🤷 should ignore results for unknown calls")
+	void ignoresUnknownCalls() {
+		pendingCalls.complete("{\"id\":\"unknown\",\"value\":1}");
+
+		assertThat(pendingCalls.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("🚨 should reject malformed messages")
+	void rejectsMalformedMessages() {
+		assertThatThrownBy(() -> pendingCalls.complete("not-json"))
+				.isInstanceOf(JavaScriptEvaluationException.class);
+	}
+}
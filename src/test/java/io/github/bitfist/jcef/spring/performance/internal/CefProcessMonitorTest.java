@@ -0,0 +1,98 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.browser.BrowserVisibilityChangedEvent;
+import io.github.bitfist.jcef.spring.performance.CefMemoryPressureEvent;
+import io.github.bitfist.jcef.spring.performance.CefProcessUsage;
+import io.github.bitfist.jcef.spring.performance.PerformanceProperties.PressureAction;
+import org.cef.browser.CefBrowser;
+import org.cef.browser.CefDevToolsClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CefProcessMonitorTest {
+
+	private final ProcessSampler sampler = mock(ProcessSampler.class);
+	private final CefBrowser browser = mock(CefBrowser.class);
+	@SuppressWarnings("unchecked")
+	private final ObjectProvider<CefBrowser> browserProvider = mock(ObjectProvider.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private CefProcessMonitor monitor;
+
+	@AfterEach
+	void tearDown() {
+		monitor.close();
+	}
+
+	@Test
+	@DisplayName("📣 should notify once per crossing of the memory threshold")
+	void notifiesOncePerCrossing() {
+		monitor = monitor(EnumSet.of(PressureAction.NOTIFY));
+		when(sampler.sample()).thenReturn(
+				usage(900), usage(1100), usage(1200), usage(800), usage(1100)
+		);
+
+		for (int i = 0; i < 5; i++) {
+			monitor.sample();
+		}
+
+		verify(eventPublisher, times(2)).publishEvent(any(CefMemoryPressureEvent.class));
+		assertThat(monitor.getUsage()).isEqualTo(usage(1100));
+	}
+
+	@Test
+	@DisplayName("🧹 should clear caches and reload the hidden browser under memory pressure")
+	void relievesMemoryPressure() {
+		monitor = monitor(EnumSet.of(PressureAction.CLEAR_CACHES, PressureAction.RELOAD_HIDDEN));
+		var devTools = mock(CefDevToolsClient.class);
+		when(browserProvider.getIfAvailable()).thenReturn(browser);
+		when(browser.getDevToolsClient()).thenReturn(devTools);
+		when(sampler.sample()).thenReturn(usage(2000));
+
+		monitor.onVisibilityChanged(new BrowserVisibilityChangedEvent(browser, false));
+		monitor.sample();
+
+		verify(devTools).executeDevToolsMethod("Network.clearBrowserCache", "{}");
+		verify(devTools).executeDevToolsMethod("Memory.simulatePressureNotification", "{\"level\":\"critical\"}");
+		verify(browser).reload();
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	@DisplayName("👂 should pass every sample to the listeners")
+	void passesSamplesToListeners() {
+		monitor = monitor(Set.of());
+		var samples = new ArrayList<List<CefProcessUsage>>();
+		monitor.addSampleListener(samples::add);
+		when(sampler.sample()).thenReturn(usage(100));
+
+		monitor.sample();
+
+		assertThat(samples).containsExactly(usage(100));
+	}
+
+	private CefProcessMonitor monitor(Set<PressureAction> actions) {
+		return new CefProcessMonitor(sampler, Duration.ofSeconds(1), DataSize.ofBytes(1000), actions, browserProvider, eventPublisher);
+	}
+
+	private static List<CefProcessUsage> usage(long residentBytes) {
+		return List.of(new CefProcessUsage(1, "renderer", residentBytes, Duration.ZERO));
+	}
+}
@@ -0,0 +1,66 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.performance.PerformanceProperties;
+import io.github.bitfist.jcef.spring.performance.PerformanceProperties.Profile;
+import me.friwi.jcefmaven.CefAppBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PerformanceProfileCustomizerTest {
+
+	private final PerformanceProperties properties = new PerformanceProperties();
+	private final PerformanceProfileCustomizer customizer = new PerformanceProfileCustomizer(properties);
+
+	@Test
+	@DisplayName("⚪ should keep Chromium's defaults without a profile")
+	void keepsDefaults() {
+		var builder = mock(CefAppBuilder.class);
+
+		customizer.accept(builder);
+
+		verify(builder, never()).addJcefArgs(any(String[].class));
+	}
+
+	@Test
+	@DisplayName("🪶 should limit renderers, heap and GPU with the low-memory profile")
+	void appliesLowMemoryProfile() {
+		properties.setProfile(Profile.LOW_MEMORY);
+
+		assertThat(customizer.arguments())
+				.contains("--disable-gpu", "--disable-gpu-shader-disk-cache", "--js-flags=--max-old-space-size=256", "--renderer-process-limit=1")
+				.filteredOn(argument -> argument.startsWith("--disable-features="))
+				.singleElement()
+				.asString()
+				.contains("BackForwardCache", "Translate");
+	}
+
+	@Test
+	@DisplayName("🔧 should prefer explicit limits over those of the profile")
+	void appliesExplicitLimits() {
+		properties.setProfile(Profile.LOW_MEMORY);
+		properties.setMaxOldSpaceSize(DataSize.ofMegabytes(512));
+		properties.setRendererProcessLimit(2);
+
+		assertThat(customizer.arguments())
+				.contains("--js-flags=--max-old-space-size=512", "--renderer-process-limit=2")
+				.doesNotContain("--js-flags=--max-old-space-size=256", "--renderer-process-limit=1");
+	}
+
+	@Test
+	@DisplayName("🚀 should enable GPU rasterization with the throughput profile")
+	void appliesThroughputProfile() {
+		properties.setProfile(Profile.THROUGHPUT);
+
+		assertThat(customizer.arguments())
+				.contains("--enable-gpu-rasterization", "--disable-background-networking")
+				.doesNotContain("--disable-gpu")
+				.noneMatch(argument -> argument.startsWith("--renderer-process-limit"));
+	}
+}
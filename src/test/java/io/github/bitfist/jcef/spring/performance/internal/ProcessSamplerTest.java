@@ -0,0 +1,83 @@
+package io.github.bitfist.jcef.spring.performance.internal;
+
+import io.github.bitfist.jcef.spring.performance.CefProcessUsage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProcessSamplerTest {
+
+	@TempDir
+	private Path procRoot;
+
+	@Test
+	@DisplayName("🔎 should read type, resident memory and CPU time of each process")
+	void samplesProcesses() throws IOException {
+		Files.createDirectories(procRoot.resolve("42"));
+		Files.writeString(procRoot.resolve("42/smaps_rollup"), "00400000-7fff [rollup]\nRss:              2048 kB\nPss:               1024 kB\n");
+		Files.createDirectories(procRoot.resolve("43"));
+		Files.writeString(procRoot.resolve("43/status"), "Name:\tjcef_helper\nVmRSS:\t    512 kB\n");
+		var renderer = process(42, Optional.of(new String[]{"--type=renderer", "--lang=en"}), Duration.ofSeconds(3));
+		var gpu = process(43, Optional.of(new String[]{"--type=gpu-process"}), Duration.ofSeconds(1));
+		var sampler = new ProcessSampler(procRoot, () -> Stream.of(renderer, gpu));
+
+		var usage = sampler.sample();
+
+		assertThat(usage).hasSize(2);
+		assertThat(usage.get(0).type()).isEqualTo("renderer");
+		assertThat(usage.get(0).residentBytes()).isEqualTo(2048 * 1024);
+		assertThat(usage.get(0).cpuTime()).isEqualTo(Duration.ofSeconds(3));
+		assertThat(usage.get(1).type()).isEqualTo("gpu-process");
+		assertThat(usage.get(1).residentBytes()).isEqualTo(512 * 1024);
+	}
+
+	@Test
+	@DisplayName("🙈 should skip descendants that are no CEF subprocesses")
+	void skipsOtherProcesses() {
+		var renderer = process(42, Optional.of(new String[]{"--type=renderer"}), Duration.ofSeconds(3));
+		var shell = process(43, Optional.of(new String[]{"-c", "sleep 10"}), Duration.ofSeconds(1));
+		when(shell.info().command()).thenReturn(Optional.of("/bin/sh"));
+		var unknown = process(44, Optional.empty(), null);
+		var sampler = new ProcessSampler(procRoot, () -> Stream.of(renderer, shell, unknown));
+
+		var usage = sampler.sample();
+
+		assertThat(usage).extracting(CefProcessUsage::pid).containsExactly(42L);
+	}
+
+	@Test
+	@DisplayName("❓ should report unknown values where the platform does not provide them")
+	void reportsUnknownValues() {
+		var process = process(7, Optional.empty(), null);
+		when(process.info().command()).thenReturn(Optional.of("/opt/jcef/jcef_helper"));
+		var sampler = new ProcessSampler(procRoot, () -> Stream.of(process));
+
+		var usage = sampler.sample().getFirst();
+
+		assertThat(usage.type()).isEqualTo(ProcessSampler.UNKNOWN_TYPE);
+		assertThat(usage.residentBytes()).isEqualTo(-1);
+		assertThat(usage.cpuTime()).isEqualTo(Duration.ZERO);
+	}
+
+	private static ProcessHandle process(long pid, Optional<String[]> arguments, Duration cpuTime) {
+		var process = mock(ProcessHandle.class);
+		var info = mock(ProcessHandle.Info.class);
+		when(process.pid()).thenReturn(pid);
+		when(process.isAlive()).thenReturn(true);
+		when(process.info()).thenReturn(info);
+		when(info.arguments()).thenReturn(arguments);
+		when(info.totalCpuDuration()).thenReturn(Optional.ofNullable(cpuTime));
+		return process;
+	}
+}
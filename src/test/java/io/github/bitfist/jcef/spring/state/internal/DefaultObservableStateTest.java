@@ -0,0 +1,147 @@
+package io.github.bitfist.jcef.spring.state.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class DefaultObservableStateTest {
+
+	private final ObjectMapper objectMapper = spy(new ObjectMapper());
+	private final RecordingSubscription subscription = new RecordingSubscription();
+
+	@Test
+	@DisplayName("🎯 Path updates only serialize the changed member")
+	void serializesChangedMemberOnly() throws Exception {
+		var state = state(new TaskList("a", "b"));
+		clearInvocations(objectMapper);
+
+		state.update("/tasks/1/done", list -> list.tasks.get(1).done = true);
+
+		assertThat(subscription.patch(1)).isEqualTo(json("[{\"op\":\"replace\",\"path\":\"/tasks/1/done\",\"value\":true}]"));
+		verify(objectMapper, never()).valueToTree(any(TaskList.class));
+		verify(objectMapper, never()).valueToTree(any(Task.class));
+		assertThat(state.getVersion()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("➕ Path updates add and remove entries of maps and lists")
+	void addsAndRemovesEntries() throws Exception {
+		var state = state(new LinkedHashMap<>(Map.of("a", 1)));
+
+		state.update("/b", map -> map.put("b", 2));
+		state.update("/a", map -> map.remove("a"));
+
+		assertThat(subscription.patch(1)).isEqualTo(json("[{\"op\":\"add\",\"path\":\"/b\",\"value\":2}]"));
+		assertThat(subscription.patch(2)).isEqualTo(json("[{\"op\":\"remove\",\"path\":\"/a\"}]"));
+
+		var list = state(new TaskList("a"));
+		list.update("/tasks/1", taskList -> taskList.tasks.add(new Task("b")));
+
+		assertThat(subscription.patch(4)).isEqualTo(json("[{\"op\":\"add\",\"path\":\"/tasks/1\",\"value\":{\"title\":\"b\",\"done\":false}}]"));
+	}
+
+	@Test
+	@DisplayName("🟰 Path updates without a change are not sent")
+	void unchangedMember() {
+		var state = state(new TaskList("a"));
+
+		state.update("/tasks/0/title", list -> list.tasks.getFirst().title = "a");
+
+		assertThat(subscription.frames).hasSize(1);
+		assertThat(state.getVersion()).isZero();
+	}
+
+	@Test
+	@DisplayName("↩️ Unresolvable paths fall back to comparing the whole value")
+	void fallsBackToWholeValue() throws Exception {
+		var state = state(new TaskList("a"));
+
+		state.update("/unknown", list -> list.tasks.getFirst().done = true);
+
+		assertThat(subscription.patch(1)).isEqualTo(json("[{\"op\":\"replace\",\"path\":\"/tasks/0/done\",\"value\":true}]"));
+		assertThatThrownBy(() -> state.update("no pointer", list -> {
+		})).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("⏩ Later path updates do not alter recorded deltas")
+	void keepsHistoryIntact() throws Exception {
+		var state = state(new TaskList());
+		state.update("/tasks/0", list -> list.tasks.add(new Task("a")));
+		state.update("/tasks/0/done", list -> list.tasks.getFirst().done = true);
+		var reconnected = new RecordingSubscription();
+
+		state.subscribe(2, 0, reconnected);
+
+		assertThat(reconnected.patch(0)).isEqualTo(json("""
+				[
+					{"op":"add","path":"/tasks/0","value":{"title":"a","done":false}},
+					{"op":"replace","path":"/tasks/0/done","value":true}
+				]
+				"""));
+	}
+
+	private <T> DefaultObservableState<T> state(T initialValue) {
+		var state = new DefaultObservableState<>("tasks", initialValue, objectMapper, 8);
+		state.subscribe(1, -1, subscription);
+		return state;
+	}
+
+	private JsonNode json(String json) throws Exception {
+		return objectMapper.readTree(json);
+	}
+
+	public static class TaskList {
+
+		public List<Task> tasks = new ArrayList<>();
+
+		TaskList(String... titles) {
+			for (String title : titles) {
+				tasks.add(new Task(title));
+			}
+		}
+	}
+
+	public static class Task {
+
+		public String title;
+		public boolean done;
+
+		Task(String title) {
+			this.title = title;
+		}
+	}
+
+	private class RecordingSubscription implements CefSubscription {
+
+		private final List<String> frames = new ArrayList<>();
+
+		@Override
+		public void send(String message) {
+			frames.add(message);
+		}
+
+		@Override
+		public void fail(int errorCode, String errorMessage) {
+		}
+
+		JsonNode patch(int index) throws Exception {
+			return json(frames.get(index)).get("patch");
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package io.github.bitfist.jcef.spring.state.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonPatchDiffTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("🟰 Equal documents produce an empty patch")
+	void equalDocuments() throws Exception {
+		var patch = JsonPatchDiff.diff(json("{\"a\":[1,2]}"), json("{\"a\":[1,2]}"));
+
+		assertThat(patch).isEmpty();
+	}
+
+	@Test
+	@DisplayName("🧱 Object members are added, removed and replaced")
+	void objectMembers() throws Exception {
+		var patch = JsonPatchDiff.diff(json("{\"keep\":1,\"change\":1,\"drop\":1}"), json("{\"keep\":1,\"change\":2,\"new/key\":3}"));
+
+		assertThat(patch).isEqualTo(json("""
+				[
+				  {"op":"replace","path":"/change","value":2},
+				  {"op":"remove","path":"/drop"},
+				  {"op":"add","path":"/new~1key","value":3}
+				]
+				"""));
+	}
+
+	@Test
+	@DisplayName("📋 Inserting into a large list results in a single operation")
+	void insertIntoLargeList() {
+		List<Integer> source = IntStream.range(0, 5000).boxed().toList();
+		var target = new ArrayList<>(source);
+		target.add(2500, -1);
+
+		var patch = JsonPatchDiff.diff(objectMapper.valueToTree(source), objectMapper.valueToTree(target));
+
+		assertThat(patch).hasSize(1);
+		assertThat(patch.get(0).toString()).isEqualTo("{\"op\":\"add\",\"path\":\"/2500\",\"value\":-1}");
+	}
+
+	@Test
+	@DisplayName("✂️ Removed list elements are removed at a stable index")
+	void removeFromList() throws Exception {
+		var patch = JsonPatchDiff.diff(json("[1,2,3,4,5]"), json("[1,5]"));
+
+		assertThat(patch).isEqualTo(json("""
+				[
+				  {"op":"remove","path":"/1"},
+				  {"op":"remove","path":"/1"},
+				  {"op":"remove","path":"/1"}
+				]
+				"""));
+	}
+
+	@Test
+	@DisplayName("🔍 Changed list elements are diffed recursively")
+	void nestedChange() throws Exception {
+		var patch = JsonPatchDiff.diff(json("[{\"done\":false},{\"done\":false}]"), json("[{\"done\":false},{\"done\":true}]"));
+
+		assertThat(patch).isEqualTo(json("[{\"op\":\"replace\",\"path\":\"/1/done\",\"value\":true}]"));
+	}
+
+	@Test
+	@DisplayName("🔁 Type changes replace the whole value")
+	void typeChange() throws Exception {
+		var patch = JsonPatchDiff.diff(json("[1]"), json("{\"a\":1}"));
+
+		assertThat(patch).isEqualTo(json("[{\"op\":\"replace\",\"path\":\"\",\"value\":{\"a\":1}}]"));
+	}
+
+	private JsonNode json(String json) throws Exception {
+		return objectMapper.readTree(json);
+	}
+}
@@ -0,0 +1,139 @@
+package io.github.bitfist.jcef.spring.state.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StateSynchronizerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final StateSynchronizer synchronizer = new StateSynchronizer(objectMapper, 2);
+
+	@Test
+	@DisplayName("📸 New stores receive a snapshot, changes as patches")
+	void snapshotThenPatches() throws Exception {
+		var state = synchronizer.register("tasks", new ArrayList<>(List.of("a", "b")));
+		var subscription = new RecordingSubscription();
+
+		assertThat(synchronizer.subscribe(1, "{\"state\":\"tasks\",\"version\":-1}", subscription)).isTrue();
+		state.update(tasks -> {
+			tasks.add("c");
+			return tasks;
+		});
+
+		assertThat(subscription.frames).hasSize(2);
+		assertThat(subscription.frame(0)).isEqualTo(json("{\"type\":\"snapshot\",\"version\":0,\"value\":[\"a\",\"b\"]}"));
+		assertThat(subscription.frame(1)).isEqualTo(json("""
+				{"type":"patch","baseVersion":0,"version":1,"patch":[{"op":"add","path":"/2","value":"c"}]}
+				"""));
+		assertThat(state.getVersion()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("🟰 Unchanged values are not sent and keep their version")
+	void unchangedValue() {
+		var state = synchronizer.register("tasks", List.of("a"));
+		var subscription = new RecordingSubscription();
+		synchronizer.subscribe(1, "{\"state\":\"tasks\"}", subscription);
+
+		state.set(List.of("a"));
+
+		assertThat(subscription.frames).hasSize(1);
+		assertThat(state.getVersion()).isZero();
+	}
+
+	@Test
+	@DisplayName("⏩ Reconnecting stores catch up from their version")
+	void catchUpFromHistory() throws Exception {
+		var state = synchronizer.register("counter", 0);
+		state.set(1);
+		state.set(2);
+		var subscription = new RecordingSubscription();
+
+		synchronizer.subscribe(1, "{\"state\":\"counter\",\"version\":1}", subscription);
+
+		assertThat(subscription.frame(0)).isEqualTo(json("""
+				{"type":"patch","baseVersion":1,"version":2,"patch":[{"op":"replace","path":"","value":2}]}
+				"""));
+	}
+
+	@Test
+	@DisplayName("🔄 Stores behind the history receive a full resync")
+	void resyncWhenHistoryExceeded() throws Exception {
+		var state = synchronizer.register("counter", 0);
+		state.set(1);
+		state.set(2);
+		state.set(3);
+		var subscription = new RecordingSubscription();
+
+		synchronizer.subscribe(1, "{\"state\":\"counter\",\"version\":0}", subscription);
+
+		assertThat(subscription.frame(0)).isEqualTo(json("{\"type\":\"snapshot\",\"version\":3,\"value\":3}"));
+	}
+
+	@Test
+	@DisplayName("🔌 Unsubscribed stores receive no further changes")
+	void unsubscribe() {
+		var state = synchronizer.register("counter", 0);
+		var subscription = new RecordingSubscription();
+		synchronizer.subscribe(1, "{\"state\":\"counter\"}", subscription);
+
+		synchronizer.unsubscribe(1);
+		state.set(1);
+
+		assertThat(subscription.frames).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("🙅 Ignores other requests and fails for unknown states")
+	void otherRequests() {
+		var subscription = mock(CefSubscription.class);
+
+		assertThat(synchronizer.subscribe(1, "{\"subscribe\":\"prices\"}", subscription)).isFalse();
+		assertThat(synchronizer.subscribe(2, "{\"state\":\"unknown\"}", subscription)).isTrue();
+
+		verify(subscription).fail(eq(StateSynchronizer.UNKNOWN_STATE_ERROR), anyString());
+	}
+
+	@Test
+	@DisplayName("⚠️ State names are unique")
+	void duplicateName() {
+		synchronizer.register("counter", 0);
+
+		assertThatThrownBy(() -> synchronizer.register("counter", 1)).isInstanceOf(IllegalStateException.class);
+	}
+
+	private JsonNode json(String json) throws Exception {
+		return objectMapper.readTree(json);
+	}
+
+	private class RecordingSubscription implements CefSubscription {
+
+		private final List<String> frames = new ArrayList<>();
+
+		@Override
+		public void send(String message) {
+			frames.add(message);
+		}
+
+		@Override
+		public void fail(int errorCode, String errorMessage) {
+		}
+
+		JsonNode frame(int index) throws Exception {
+			return json(frames.get(index));
+		}
+	}
+}
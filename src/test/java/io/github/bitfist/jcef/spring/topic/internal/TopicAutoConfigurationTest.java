@@ -0,0 +1,19 @@
+package io.github.bitfist.jcef.spring.topic.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.topic.TopicProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicAutoConfigurationTest {
+
+	@Test
+	void createsBroker() {
+		var autoConfiguration = new TopicAutoConfiguration();
+
+		try (var broker = autoConfiguration.topicBroker(new ObjectMapper(), new TopicProperties())) {
+			assertThat(broker).isNotNull();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package io.github.bitfist.jcef.spring.topic.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bitfist.jcef.spring.browser.CefSubscription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TopicBrokerTest {
+
+	private final TopicBroker broker = new TopicBroker(new ObjectMapper(), Duration.ofMillis(200));
+
+	@AfterEach
+	void tearDown() {
+		broker.close();
+	}
+
+	@Test
+	@DisplayName("🙅 Ignores persistent queries that are no subscriptions")
+	void ignoresOtherRequests() {
+		var subscription = new RecordingSubscription();
+
+		assertThat(broker.subscribe(1, "{\"className\":\"Service\"}", subscription)).isFalse();
+		assertThat(broker.subscribe(2, "not json", subscription)).isFalse();
+	}
+
+	@Test
+	@DisplayName("📣 Delivers published values as JSON")
+	void deliversPublishedValues() {
+		var subscription = new RecordingSubscription();
+		assertThat(broker.subscribe(1, "{\"subscribe\":\"prices\"}", subscription)).isTrue();
+
+		broker.publish("prices", List.of(1, 2));
+
+		await().atMost(2, TimeUnit.SECONDS).until(() -> subscription.messages.contains("[1,2]"));
+	}
+
+	@Test
+	@DisplayName("🔁 Coalesces values published within one delivery interval")
+	void coalescesToLatestValue() throws InterruptedException {
+		var subscription = new RecordingSubscription();
+		broker.subscribe(1, "{\"subscribe\":\"ticks\"}", subscription);
+
+		broker.publish("ticks", 1);
+		await().atMost(2, TimeUnit.SECONDS).until(() -> subscription.messages.contains("1"));
+		for (var tick = 2; tick <= 100; tick++) {
+			broker.publish("ticks", tick);
+		}
+
+		await().atMost(2, TimeUnit.SECONDS).until(() -> subscription.messages.contains("100"));
+		assertThat(subscription.messages).containsExactly("1", "100");
+	}
+
+	@Test
+	@DisplayName("🆕 New subscribers immediately receive the latest value")
+	void sendsLatestValueOnSubscribe() {
+		var first = new RecordingSubscription();
+		broker.subscribe(1, "{\"subscribe\":\"status\"}", first);
+		broker.publish("status", "ready");
+		await().atMost(2, TimeUnit.SECONDS).until(() -> first.messages.contains("\"ready\""));
+
+		var second = new RecordingSubscription();
+		broker.subscribe(2, "{\"subscribe\":\"status\"}", second);
+
+		assertThat(second.messages).containsExactly("\"ready\"");
+	}
+
+	@Test
+	@DisplayName("🏁 Subscribers joining during deliveries end with the latest value")
+	void subscribersEndWithLatestValue() throws InterruptedException {
+		var fastBroker = new TopicBroker(new ObjectMapper(), Duration.ZERO);
+		try {
+			var subscriptions = new CopyOnWriteArrayList<RecordingSubscription>();
+			var publisher = new Thread(() -> {
+				for (var tick = 1; tick <= 2_000; tick++) {
+					fastBroker.publish("ticks", tick);
+				}
+			});
+			publisher.start();
+			for (var id = 1; publisher.isAlive(); id++) {
+				var subscription = new RecordingSubscription();
+				subscriptions.add(subscription);
+				fastBroker.subscribe(id, "{\"subscribe\":\"ticks\"}", subscription);
+			}
+			publisher.join();
+
+			await().atMost(2, TimeUnit.SECONDS).until(() -> subscriptions.stream()
+					.allMatch(subscription -> !subscription.messages.isEmpty()
+							&& subscription.messages.getLast().equals("2000")));
+		} finally {
+			fastBroker.close();
+		}
+	}
+
+	@Test
+	@DisplayName("🔌 Stops delivering after unsubscribe")
+	void stopsAfterUnsubscribe() {
+		var subscription = new RecordingSubscription();
+		broker.subscribe(1, "{\"subscribe\":\"status\"}", subscription);
+
+		broker.unsubscribe(1);
+
+		assertThat(broker.subscriberCount("status")).isZero();
+	}
+
+	@Test
+	@DisplayName("⚠️ Rejects blank topic names")
+	void rejectsBlankTopic() {
+		var subscription = mock(CefSubscription.class);
+
+		assertThat(broker.subscribe(1, "{\"subscribe\":\" \"}", subscription)).isTrue();
+
+		verify(subscription).fail(eq(TopicBroker.UNKNOWN_TOPIC_ERROR), anyString());
+	}
+
+	private static class RecordingSubscription implements CefSubscription {
+
+		private final List<String> messages = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void send(String message) {
+			messages.add(message);
+		}
+
+		@Override
+		public void fail(int errorCode, String errorMessage) {
+		}
+	}
+}
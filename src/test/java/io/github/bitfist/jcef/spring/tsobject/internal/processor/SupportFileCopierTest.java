@@ -72,6 +72,9 @@ class SupportFileCopierTest {
 			assertTrue(content.contains("cefQuery"), "Expected query-service derived content");
 
 			// Shared support files also present
+			assertTrue(Files.exists(tempDir.resolve("jcef").resolve("CefTopicService.ts")));
+			assertTrue(Files.exists(tempDir.resolve("jcef").resolve("CefStateStore.ts")));
+			assertTrue(Files.exists(tempDir.resolve("jcef").resolve("JsonPatch.ts")));
 			assertTrue(Files.exists(tempDir.resolve("jcef").resolve("ResponseValueConverter.ts")));
 			assertTrue(Files.exists(tempDir.resolve("jcef").resolve("ResponseType.ts")));
 			assertTrue(Files.exists(tempDir.resolve("types").resolve("cef.d.ts")));
@@ -141,6 +141,42 @@ class TypeScriptProcessorTest {
 			var cefServiceFile = tmpDir.resolve("jcef").resolve("CefCommunicationService.ts");
 			assertTrue(Files.exists(cefServiceFile), "Service file should be generated: " + cefServiceFile);
 		}
+
+		@Test
+		@DisplayName("🗂️ Generate state value and typed store for @TypeScriptState")
+		void generatesStateStore(@TempDir Path tmpDir) throws IOException {
+			JavaFileObject taskList = JavaFileObjects.forSourceString("test.TaskList",
+					// language=java
+					"""
+					package test;
+
+					import io.github.bitfist.jcef.spring.tsobject.TypeScriptState;
+					import java.util.List;
+
+					@TypeScriptState(name = "tasks", path = "state")
+					class TaskList {
+						public List<String> titles;
+					}
+					""");
+
+			var compilation = Compiler.javac()
+					.withProcessors(new TypeScriptProcessor())
+					.withOptions(("-Ajcef.output.path=" + tmpDir))
+					.compile(taskList);
+
+			assertEquals(SUCCESS, compilation.status());
+
+			var valueTs = tmpDir.resolve("state").resolve("TaskList.ts");
+			var storeTs = tmpDir.resolve("state").resolve("TaskListStore.ts");
+			assertTrue(Files.exists(valueTs), "State value TypeScript file should be generated: " + valueTs);
+			assertTrue(Files.exists(storeTs), "Store TypeScript file should be generated: " + storeTs);
+
+			var storeContent = Files.readString(storeTs);
+			assertTrue(storeContent.contains("import { CefStateStore } from '../jcef/CefStateStore';"), "Store should import CefStateStore");
+			assertTrue(storeContent.contains("import type { TaskList } from './TaskList';"), "Store should import its value type");
+			assertTrue(storeContent.contains("export const TaskListStore = new CefStateStore<TaskList>('tasks');"), "Store should be bound to the state name");
+			assertTrue(Files.exists(tmpDir.resolve("jcef").resolve("JsonPatch.ts")), "JsonPatch support file should be copied");
+		}
 	}
 
 	@Nested